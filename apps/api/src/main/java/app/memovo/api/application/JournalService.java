@@ -1,20 +1,91 @@
 package app.memovo.api.application;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalBatch;
+import app.memovo.api.domain.model.JournalCreateResult;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalHeatmap;
+import app.memovo.api.domain.model.JournalPage;
+import app.memovo.api.domain.model.JournalSummaryPage;
 
 public interface JournalService {
+
+    int MAX_PAGE_SIZE = 100;
+
+    int MAX_BULK_SIZE = 500;
+
+    int MAX_SNIPPET_LENGTH = 500;
+
+    int MAX_BATCH_GET_SIZE = 100;
     
     Journal createJournal( Journal journal); 
 
+    List<JournalCreateResult> createJournals(List<Journal> journals);
+
     Journal updateJournal(String journalId, Journal journalUpdates);
+
+    /**
+     * Applies the non-null title and content of {@code changes} to a journal
+     * owned by {@code userId}; the owner itself cannot be changed.
+     */
+    Journal patchJournal(String journalId, String userId, Journal changes);
     
     Journal getJournalById(String journalId, String userId);
+
+    /**
+     * Fetches up to {@link #MAX_BATCH_GET_SIZE} of the user's journals in one
+     * query, in request order; duplicate ids are returned once.
+     */
+    JournalBatch getJournalsByIds(String userId, List<String> journalIds);
     
     List<Journal> getJournalsByUserId(String userId); 
+
+    /**
+     * Whether {@link #writeJournalsAsJson} is supported by the configured
+     * database; when it is not, callers serialise {@link #getJournalsByUserId(String)}.
+     */
+    boolean canWriteJournalsAsJson();
+
+    /**
+     * Writes the same entries as {@link #getJournalsByUserId(String)} to
+     * {@code out} as the JSON array of journal responses, rendered by the
+     * database.
+     *
+     * @return the number of entries written
+     */
+    long writeJournalsAsJson(String userId, OutputStream out) throws IOException;
+
+    /** Journals created between {@code from} and {@code to} (inclusive dates), newest first. */
+    List<Journal> getJournalsByUserId(String userId, LocalDate from, LocalDate to);
+
+    /**
+     * Per-day journal counts for the whole {@code year}, or only {@code month}
+     * (1-12) of it when given.
+     */
+    JournalHeatmap getJournalHeatmap(String userId, int year, Integer month);
+
+    JournalPage getJournalPage(String userId, JournalCursor after, int limit);
+
+    JournalSummaryPage getJournalSummaryPage(String userId, JournalCursor after, int limit, int snippetLength);
+
+    long exportJournals(String userId, Consumer<Journal> sink);
     
-    void deleteJournal(String id);
+    void deleteJournal(String id, String userId);
+
+    /**
+     * Deletes the user's journals matching either {@code ids} (at most
+     * {@link #MAX_BULK_SIZE}) or the inclusive date range {@code from}..{@code to},
+     * all or nothing.
+     *
+     * @return the number of journals deleted
+     */
+    int deleteJournals(String userId, List<String> ids, LocalDate from, LocalDate to);
 
     
 }
@@ -1,41 +1,135 @@
 package app.memovo.api.application;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
  
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalBatch;
+import app.memovo.api.domain.model.JournalCreateResult;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalHeatmap;
+import app.memovo.api.domain.model.JournalPage;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.JournalSummaryPage;
+import app.memovo.api.domain.port.IdGenerator;
+import app.memovo.api.domain.port.JournalJsonRepository;
 import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.exception.InvalidJournalFilterException;
+import app.memovo.api.exception.JournalNotFoundException;
 import app.memovo.api.security.ForbiddenException;
 
 @Service
 public class JournalServiceImpl implements JournalService {
 
     private final JournalRepository journalRepository;
+    private final JournalJsonRepository journalJsonRepository;
+    private final UserRepository userRepository;
+    private final IdGenerator idGenerator;
 
-    public JournalServiceImpl(JournalRepository journalRepository) {
+    public JournalServiceImpl(JournalRepository journalRepository, JournalJsonRepository journalJsonRepository,
+                              UserRepository userRepository, IdGenerator idGenerator) {
         this.journalRepository = journalRepository;
+        this.journalJsonRepository = journalJsonRepository;
+        this.userRepository = userRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Override
+    @Transactional
     public Journal createJournal( Journal journal) {
         
         
         if (journal.getId() == null) {
-            journal.setId(UUID.randomUUID().toString());
+            journal.setId(idGenerator.newId());
         }
         journal.setCreatedAt(LocalDateTime.now());
         
-        return journalRepository.save(journal);
+        return journalRepository.insert(journal);
     }
 
     @Override
+    @Transactional
+    public List<JournalCreateResult> createJournals(List<Journal> journals) {
+        if (journals.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " journals can be created at once");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Boolean> knownUsers = new HashMap<>();
+        List<JournalCreateResult> results = new ArrayList<>(journals.size());
+        List<Journal> accepted = new ArrayList<>(journals.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(journals.size());
+
+        for (int i = 0; i < journals.size(); i++) {
+            Journal journal = journals.get(i);
+            String error = validateForCreate(journal, knownUsers);
+            if (error != null) {
+                results.add(JournalCreateResult.failed(i, error));
+                continue;
+            }
+            journal.setId(idGenerator.newId());
+            journal.setCreatedAt(now);
+            accepted.add(journal);
+            acceptedIndexes.add(i);
+            results.add(null);
+        }
+
+        if (!accepted.isEmpty()) {
+            List<Journal> saved = journalRepository.insertAll(accepted);
+            for (int i = 0; i < saved.size(); i++) {
+                int index = acceptedIndexes.get(i);
+                results.set(index, JournalCreateResult.created(index, saved.get(i)));
+            }
+        }
+
+        return results;
+    }
+
+    private String validateForCreate(Journal journal, Map<String, Boolean> knownUsers) {
+        if (journal == null) {
+            return "Entry is required";
+        }
+        if (isBlank(journal.getUserId())) {
+            return "userId is required";
+        }
+        if (isBlank(journal.getTitle())) {
+            return "title is required";
+        }
+        if (isBlank(journal.getContent())) {
+            return "content is required";
+        }
+        // Imports usually carry a single owner, so this is one lookup per request
+        if (!knownUsers.computeIfAbsent(journal.getUserId(), userRepository::existsById)) {
+            return "User not found with id: " + journal.getUserId();
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    @Transactional
     public Journal updateJournal(String journalId, Journal journalUpdates) { 
         Journal existingJournal = journalRepository.findById(journalId)
-            .orElseThrow(() -> new NoSuchElementException("Journal not found with id: " + journalId));
+            .orElseThrow(() -> new JournalNotFoundException("Journal not found with id: " + journalId));
 
         if (journalUpdates.getTitle() != null) {
             existingJournal.setTitle(journalUpdates.getTitle());
@@ -52,9 +146,24 @@ public class JournalServiceImpl implements JournalService {
     
 
     @Override
+    @Transactional
+    public Journal patchJournal(String journalId, String userId, Journal changes) {
+        Optional<Journal> patched = journalRepository.patch(journalId, userId, changes);
+        if (patched.isPresent()) {
+            return patched.get();
+        }
+        // As with deletes, only a failed patch pays for a second lookup
+        if (journalRepository.existsById(journalId)) {
+            throw new ForbiddenException("User " + userId + " is not authorized to update this journal.");
+        }
+        throw new JournalNotFoundException("Journal not found with id: " + journalId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Journal getJournalById(String journalId, String userId) {
-        Journal journal = journalRepository.findById(journalId)
-            .orElseThrow(() -> new NoSuchElementException("Journal not found with id: " + journalId));
+        Journal journal = journalRepository.findByIdForUser(journalId, userId)
+            .orElseThrow(() -> new JournalNotFoundException("Journal not found with id: " + journalId));
 
         if (!journal.getUserId().equals(userId)) {
             throw new ForbiddenException("User " + userId + " is not authorized to access this journal.");
@@ -64,15 +173,148 @@ public class JournalServiceImpl implements JournalService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public JournalBatch getJournalsByIds(String userId, List<String> journalIds) {
+        if (journalIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new InvalidJournalFilterException("At most " + MAX_BATCH_GET_SIZE + " journals can be fetched at once");
+        }
+        LinkedHashSet<String> requested = new LinkedHashSet<>(journalIds);
+
+        Map<String, Journal> found = new HashMap<>();
+        for (Journal journal : journalRepository.findAllByIds(requested, userId)) {
+            found.put(journal.getId(), journal);
+        }
+
+        List<Journal> journals = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : requested) {
+            Journal journal = found.get(id);
+            if (journal != null) {
+                journals.add(journal);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new JournalBatch(journals, missingIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Journal> getJournalsByUserId(String userId) {
         return journalRepository.findByUserId(userId);
     }
 
     @Override
-    public void deleteJournal(String id) {
-        if (!journalRepository.existsById(id)) {
-            throw new NoSuchElementException("Journal not found with id: " + id);
+    public boolean canWriteJournalsAsJson() {
+        return journalJsonRepository.isAvailable();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long writeJournalsAsJson(String userId, OutputStream out) throws IOException {
+        return journalJsonRepository.writeByUserId(userId, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Journal> getJournalsByUserId(String userId, LocalDate from, LocalDate to) {
+        requireDateRange(from, to);
+        return journalRepository.findByUserIdAndCreatedAtBetween(
+            userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JournalHeatmap getJournalHeatmap(String userId, int year, Integer month) {
+        if (year < 1 || year > 9999 || (month != null && (month < 1 || month > 12))) {
+            throw new InvalidJournalFilterException("Invalid heatmap period: year " + year + ", month " + month);
+        }
+        LocalDate from = month == null ? LocalDate.of(year, 1, 1) : LocalDate.of(year, month, 1);
+        LocalDate end = month == null ? from.plusYears(1) : from.plusMonths(1);
+
+        // Dense per-day array: the aggregate only returns days that have journals
+        Integer[] counts = new Integer[(int) ChronoUnit.DAYS.between(from, end)];
+        Arrays.fill(counts, 0);
+        long total = 0;
+        for (JournalDayCount day : journalRepository.countByUserIdPerDay(
+                userId, from.atStartOfDay(), end.atStartOfDay())) {
+            counts[(int) ChronoUnit.DAYS.between(from, day.day())] = (int) day.count();
+            total += day.count();
+        }
+        return new JournalHeatmap(from, end.minusDays(1), total, List.of(counts));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JournalPage getJournalPage(String userId, JournalCursor after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to learn whether another page exists
+        List<Journal> journals = journalRepository.findPageByUserId(userId, after, pageSize + 1);
+
+        boolean hasMore = journals.size() > pageSize;
+        List<Journal> items = hasMore ? journals.subList(0, pageSize) : journals;
+        JournalCursor nextCursor = hasMore ? JournalCursor.of(items.get(items.size() - 1)) : null;
+
+        return new JournalPage(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JournalSummaryPage getJournalSummaryPage(String userId, JournalCursor after, int limit, int snippetLength) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int snippet = Math.max(0, Math.min(snippetLength, MAX_SNIPPET_LENGTH));
+
+        List<JournalSummary> summaries = journalRepository.findSummaryPageByUserId(userId, after, pageSize + 1, snippet);
+
+        boolean hasMore = summaries.size() > pageSize;
+        List<JournalSummary> items = hasMore ? summaries.subList(0, pageSize) : summaries;
+        JournalCursor nextCursor = hasMore ? JournalCursor.of(items.get(items.size() - 1)) : null;
+
+        return new JournalSummaryPage(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportJournals(String userId, Consumer<Journal> sink) {
+        return journalRepository.forEachByUserId(userId, sink);
+    }
+
+    @Override
+    @Transactional
+    public void deleteJournal(String id, String userId) {
+        if (journalRepository.deleteByIdAndUserId(id, userId) > 0) {
+            return;
+        }
+        // Only a failed delete pays for a second lookup, to tell a foreign journal from a missing one
+        if (journalRepository.existsById(id)) {
+            throw new ForbiddenException("User " + userId + " is not authorized to delete this journal.");
+        }
+        throw new JournalNotFoundException("Journal not found with id: " + id);
+    }
+
+    @Override
+    @Transactional
+    public int deleteJournals(String userId, List<String> ids, LocalDate from, LocalDate to) {
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byRange = from != null || to != null;
+        if (byIds == byRange) {
+            throw new InvalidJournalFilterException("Specify either ids or a from/to date range");
+        }
+        if (byIds) {
+            if (ids.size() > MAX_BULK_SIZE) {
+                throw new InvalidJournalFilterException("At most " + MAX_BULK_SIZE + " journals can be deleted by id at once");
+            }
+            return journalRepository.deleteAllByIdsAndUserId(ids, userId);
+        }
+        requireDateRange(from, to);
+        return journalRepository.deleteAllByUserIdAndCreatedAtBetween(
+            userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    private static void requireDateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidJournalFilterException("A date range needs both from and to, with from not after to");
         }
-        journalRepository.deleteById(id);
     }
-}
\ No newline at end of file
+}
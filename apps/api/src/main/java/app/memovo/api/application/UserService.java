@@ -1,11 +1,27 @@
 package app.memovo.api.application;
 
 import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.model.UserPurge;
 import java.util.Optional;
 
 public interface UserService {
     User createUser(User user);
     User updateUser(String id, User user);
     Optional<User> getUserById(String id);
+
+    /**
+     * Deletes the user and all of their journals. Journals are removed in
+     * bounded chunks, each in its own short transaction, before the user row.
+     */
     void deleteUser(String id);
+
+    /**
+     * Starts {@link #deleteUser} in the background and returns its initial
+     * progress. While a purge of the user is running it is returned instead of
+     * starting another one.
+     */
+    UserPurge startUserPurge(String id);
+
+    /** Latest purge of the user, running or finished, since the application started. */
+    Optional<UserPurge> getUserPurge(String id);
 }
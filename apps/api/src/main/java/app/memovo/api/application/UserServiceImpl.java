@@ -1,29 +1,67 @@
 package app.memovo.api.application;
 
 import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.model.UserPurge;
+import app.memovo.api.domain.port.JournalRepository;
 import app.memovo.api.domain.port.UserRepository;
 import app.memovo.api.exception.UserNotFoundException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
 
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserServiceImpl.class);
+
     private final UserRepository userRepository;
+    private final JournalRepository journalRepository;
+    private final int purgeChunkSize;
+    private final Executor purgeExecutor;
+
+    private final Map<String, UserPurge> purges = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserServiceImpl(UserRepository userRepository, JournalRepository journalRepository,
+                           @Value("${users.purge.chunk-size:5000}") int purgeChunkSize) {
+        // One purge at a time keeps background deletes from competing with requests for connections
+        this(userRepository, journalRepository, purgeChunkSize, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-purge");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
 
-    public UserServiceImpl(UserRepository userRepository) {
+    UserServiceImpl(UserRepository userRepository, JournalRepository journalRepository,
+                    int purgeChunkSize, Executor purgeExecutor) {
         this.userRepository = userRepository;
+        this.journalRepository = journalRepository;
+        this.purgeChunkSize = purgeChunkSize;
+        this.purgeExecutor = purgeExecutor;
     }
 
     @Override
+    @Transactional
     public User createUser(User user) {
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        return userRepository.insert(user);
     }
 
     @Override
+    @Transactional
     public User updateUser(String id, User updatedUser) {
         return userRepository.findById(id).map(existingUser -> {
             existingUser.setFirstName(updatedUser.getFirstName());
@@ -35,15 +73,70 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(String id) {
         return userRepository.findById(id);
     }
 
+    /**
+     * Deliberately not one transaction: every chunk of journals commits on its
+     * own, so a large purge neither holds a connection nor locks rows throughout.
+     */
     @Override
     public void deleteUser(String id) {
-        if (userRepository.findById(id).isEmpty()) {
+        if (!userRepository.existsById(id)) {
             throw new UserNotFoundException("User not found with id: " + id);
         }
+        purge(id, deleted -> { });
+    }
+
+    /**
+     * Read-write like other use cases that read before they write, so the
+     * checks see the primary; the purge itself runs outside this transaction.
+     */
+    @Override
+    @Transactional
+    public synchronized UserPurge startUserPurge(String id) {
+        UserPurge running = purges.get(id);
+        if (running != null && running.isRunning()) {
+            return running;
+        }
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+
+        UserPurge started = UserPurge.started(id, journalRepository.countByUserId(id));
+        purges.put(id, started);
+
+        purgeExecutor.execute(() -> {
+            try {
+                purge(id, deleted -> purges.computeIfPresent(id, (key, purge) -> purge.progressed(deleted)));
+                purges.computeIfPresent(id, (key, purge) -> purge.completed());
+            } catch (RuntimeException e) {
+                log.warn("Purge of user {} failed", id, e);
+                purges.computeIfPresent(id, (key, purge) -> purge.failed(e.getMessage()));
+            }
+        });
+        return started;
+    }
+
+    @Override
+    public Optional<UserPurge> getUserPurge(String id) {
+        return Optional.ofNullable(purges.get(id));
+    }
+
+    private void purge(String id, LongConsumer onChunkDeleted) {
+        int deleted;
+        while ((deleted = journalRepository.deleteChunkByUserId(id, purgeChunkSize)) > 0) {
+            onChunkDeleted.accept(deleted);
+        }
         userRepository.deleteById(id);
     }
+
+    @PreDestroy
+    void shutdown() {
+        if (purgeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package app.memovo.api.config;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Gives handlers that return a {@link StreamingResponseBody} (the NDJSON
+ * export) their own async timeout, long enough to write a whole history.
+ * Every other async request keeps the default.
+ */
+class StreamedResponseTimeout implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    StreamedResponseTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+        // Called before the async request starts, so the new timeout still applies
+        if (request instanceof AsyncWebRequest asyncRequest && handler instanceof HandlerMethod method
+                && streams(method)) {
+            asyncRequest.setTimeout(timeout.toMillis());
+        }
+    }
+
+    static boolean streams(HandlerMethod method) {
+        ResolvableType type = ResolvableType.forMethodParameter(method.getReturnType());
+        if (ResponseEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.getGeneric();
+        }
+        return StreamingResponseBody.class.isAssignableFrom(type.toClass());
+    }
+}
@@ -1,17 +1,25 @@
 package app.memovo.api.config;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import app.memovo.api.infrastructure.metrics.RequestEndpoint;
+import app.memovo.api.infrastructure.metrics.RequestEndpointInterceptor;
 import app.memovo.api.security.ClerkAuthenticationFilter;
+import app.memovo.api.security.CorsPreflightFilter;
 import app.memovo.api.security.CurrentUserArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 
 /**
  * Web MVC configuration for Clerk authentication and static resources
@@ -25,18 +33,63 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private ClerkAuthenticationFilter clerkAuthenticationFilter;
 
+    @Autowired
+    private CorsPreflightFilter corsPreflightFilter;
+
+    @Autowired
+    private RequestEndpointInterceptor requestEndpointInterceptor;
+
+    @Value("${cors.allowed-origin-patterns:*}")
+    private String[] allowedOriginPatterns;
+
+    @Value("${cors.allowed-methods:GET,POST,PUT,PATCH,DELETE,OPTIONS}")
+    private String[] allowedMethods;
+
+    @Value("${cors.allowed-headers:*}")
+    private String[] allowedHeaders;
+
+    @Value("${cors.max-age:PT1H}")
+    private Duration corsMaxAge;
+
+    @Value("${journals.export.timeout:PT30M}")
+    private Duration exportTimeout;
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestEndpointInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamedResponseTimeout(exportTimeout));
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
-                .allowedOriginPatterns("*")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                .allowedHeaders("*")
-                .allowCredentials(true);
+                .allowedOriginPatterns(allowedOriginPatterns)
+                .allowedMethods(allowedMethods)
+                .allowedHeaders(allowedHeaders)
+                .allowCredentials(true)
+                .maxAge(corsMaxAge.toSeconds());
+    }
+
+    /**
+     * Register the CORS preflight filter ahead of authentication so OPTIONS
+     * requests are answered without a token and without reaching MVC
+     */
+    @Bean
+    public FilterRegistrationBean<CorsPreflightFilter> corsPreflightFilterRegistration() {
+        FilterRegistrationBean<CorsPreflightFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(corsPreflightFilter);
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(0); // Before Clerk authentication
+        return registrationBean;
     }
 
     /**
@@ -51,4 +104,13 @@ public class WebConfig implements WebMvcConfigurer {
         registrationBean.setOrder(1); // High priority
         return registrationBean;
     }
+
+    /**
+     * Carry the request's endpoint over to the task executor that writes
+     * streamed responses, so connections used there are attributed to it
+     */
+    @Bean
+    public TaskDecorator requestEndpointTaskDecorator() {
+        return RequestEndpoint::propagate;
+    }
 }
@@ -1,9 +1,12 @@
 package app.memovo.api.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -11,29 +14,56 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import app.memovo.api.application.JournalService;
+import app.memovo.api.controller.dto.JournalBatchResponse;
+import app.memovo.api.controller.dto.JournalBulkDeleteRequest;
+import app.memovo.api.controller.dto.JournalBulkDeleteResponse;
+import app.memovo.api.controller.dto.JournalBulkRequest;
+import app.memovo.api.controller.dto.JournalBulkResponse;
+import app.memovo.api.controller.dto.JournalHeatmapResponse;
+import app.memovo.api.controller.dto.JournalPageResponse;
 import app.memovo.api.controller.dto.JournalRequest;
+import app.memovo.api.controller.dto.JournalSummaryPageResponse;
 import app.memovo.api.controller.dto.JournalResponse;
 import app.memovo.api.controller.dto.JournalUpdateRequest;
 import app.memovo.api.controller.mapper.JournalControllerMapper;
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCreateResult;
+import app.memovo.api.domain.model.JournalHeatmap;
+import app.memovo.api.domain.model.JournalPage;
+import app.memovo.api.domain.model.JournalSummaryPage;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/api/v1/journals")
 @Tag(name = "Journals", description = "Operations related to user journals")
 public class JournalController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_FLUSH_EVERY = 500;
+
     private final JournalService journalService;
     private final JournalControllerMapper mapper;
+    private final JsonMapper jsonMapper;
 
-    public JournalController(JournalService journalService, JournalControllerMapper mapper) {
+    public JournalController(JournalService journalService, JournalControllerMapper mapper, JsonMapper jsonMapper) {
         this.journalService = journalService;
         this.mapper = mapper;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -49,16 +79,142 @@ public class JournalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create several journal entries in one request",
+            description = "Accepts up to " + JournalService.MAX_BULK_SIZE + " entries and stores the valid ones in "
+                    + "a single batched transaction. Every entry gets a result in request order; responds 201 when "
+                    + "all entries were created and 207 when some were rejected.")
+    public ResponseEntity<JournalBulkResponse> createJournals(@Valid @RequestBody JournalBulkRequest request) {
+
+        List<JournalCreateResult> results = journalService.createJournals(mapper.toDomain(request));
+
+        JournalBulkResponse response = mapper.toResponse(results);
+
+        HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping
-    @Operation(summary = "Get all journal entries for a user")
-    public ResponseEntity<List<JournalResponse>> getJournals(@RequestParam String userId) {
-        List<Journal> journals = journalService.getJournalsByUserId(userId);
+    @Operation(summary = "Get all journal entries for a user",
+            description = "Pass 'from' and 'to' (inclusive dates) to only get the entries created in that range, "
+                    + "newest first. With journals.json-passthrough.enabled on PostgreSQL the full list is rendered "
+                    + "to JSON by the database and streamed as is, newest first.")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = JournalResponse.class))))
+    public ResponseEntity<List<JournalResponse>> getJournals(
+            @RequestParam String userId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        boolean fullList = from == null && to == null;
+        if (fullList && journalService.canWriteJournalsAsJson()) {
+            // Written straight to the client as the database renders it; nothing is held in memory
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            journalService.writeJournalsAsJson(userId, response.getOutputStream());
+            return null;
+        }
+
+        List<Journal> journals = fullList
+            ? journalService.getJournalsByUserId(userId)
+            : journalService.getJournalsByUserId(userId, from, to);
         List<JournalResponse> responses = journals.stream()
             .map(mapper::toResponse)
             .toList();
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of journal entries for a user, newest first",
+            description = "Keyset pagination ordered by (createdAt, id) descending. Pass the returned nextCursor "
+                    + "as 'cursor' to fetch the following page. 'limit' is capped at "
+                    + JournalService.MAX_PAGE_SIZE + ".")
+    public ResponseEntity<JournalPageResponse> getJournalPage(
+            @RequestParam String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        JournalPage page = journalService.getJournalPage(userId, mapper.decodeCursor(cursor), limit);
+
+        return ResponseEntity.ok(mapper.toResponse(page));
+    }
+
+    @GetMapping("/summaries")
+    @Operation(summary = "Get a page of journal summaries for a user, newest first",
+            description = "Same ordering and cursors as /page, but entries carry no content, only an optional "
+                    + "snippet of its first 'snippetLength' characters (capped at " + JournalService.MAX_SNIPPET_LENGTH
+                    + "; 0 omits it). Intended for list screens.")
+    public ResponseEntity<JournalSummaryPageResponse> getJournalSummaries(
+            @RequestParam String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "0") int snippetLength) {
+
+        JournalSummaryPage page = journalService.getJournalSummaryPage(
+            userId, mapper.decodeCursor(cursor), limit, snippetLength);
+
+        return ResponseEntity.ok(mapper.toResponse(page));
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get several journal entries of a user by id",
+            description = "Resolves up to " + JournalService.MAX_BATCH_GET_SIZE + " comma-separated ids in one "
+                    + "query. Entries are returned in request order; ids that do not exist or belong to another "
+                    + "user are listed in missingIds.")
+    public ResponseEntity<JournalBatchResponse> getJournalsByIds(
+            @RequestParam String userId,
+            @RequestParam List<String> ids) {
+
+        return ResponseEntity.ok(mapper.toResponse(journalService.getJournalsByIds(userId, ids)));
+    }
+
+    @GetMapping("/heatmap")
+    @Operation(summary = "Get per-day entry counts for a calendar heatmap",
+            description = "Counts the user's entries per day of a year, or of one month (1-12) of it when 'month' "
+                    + "is given. 'counts' has one number per day starting at 'from'.")
+    public ResponseEntity<JournalHeatmapResponse> getJournalHeatmap(
+            @RequestParam String userId,
+            @RequestParam int year,
+            @RequestParam(required = false) Integer month) {
+
+        JournalHeatmap heatmap = journalService.getJournalHeatmap(userId, year, month);
+
+        return ResponseEntity.ok(mapper.toResponse(heatmap));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(summary = "Export all journal entries for a user as NDJSON",
+            description = "Streams one JSON object per line, newest first, straight from a database cursor. "
+                    + "Memory use does not grow with the number of entries.")
+    public ResponseEntity<StreamingResponseBody> exportJournals(@RequestParam String userId) {
+        StreamingResponseBody body = out -> {
+            // Periodic flushes hand bytes to the client as they are produced; a slow
+            // reader blocks the write, which in turn pauses reading from the cursor
+            try (SequenceWriter lines = jsonMapper.writerFor(JournalResponse.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+
+                int[] unflushed = {0};
+                long count = journalService.exportJournals(userId, journal -> {
+                    lines.write(mapper.toResponse(journal));
+                    if (++unflushed[0] == EXPORT_FLUSH_EVERY) {
+                        lines.flush();
+                        unflushed[0] = 0;
+                    }
+                });
+
+                if (count > 0) {
+                    lines.flush();
+                    out.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"journals.ndjson\"")
+            .body(body);
+    }
+
     @GetMapping("/{journalId}")
     @Operation(summary = "Get a journal entry by ID with userId validation")
     public ResponseEntity<JournalResponse> getJournal(
@@ -87,10 +243,40 @@ public class JournalController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{journalId}")
+    @Operation(summary = "Partially update a journal entry",
+            description = "Only the supplied title and content are changed, in a single statement that returns the "
+                    + "updated entry. The 'userId' query parameter names the owner; the owner cannot be changed.")
+    public ResponseEntity<JournalResponse> patchJournal(
+            @RequestBody JournalUpdateRequest request,
+            @PathVariable String journalId,
+            @RequestParam String userId) {
+
+        Journal patchedJournal = journalService.patchJournal(journalId, userId, mapper.toDomain(request));
+
+        return ResponseEntity.ok(mapper.toResponse(patchedJournal));
+    }
+
     @DeleteMapping("/{journalId}")
-    @Operation(summary = "Delete a journal entry")
-    public ResponseEntity<Void> deleteJournal(@PathVariable String journalId) {
-        journalService.deleteJournal(journalId);
+    @Operation(summary = "Delete a journal entry owned by the user")
+    public ResponseEntity<Void> deleteJournal(
+            @PathVariable String journalId,
+            @RequestParam String userId) {
+        journalService.deleteJournal(journalId, userId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk-delete")
+    @Operation(summary = "Delete several journal entries of a user in one request",
+            description = "Deletes either the listed ids (up to " + JournalService.MAX_BULK_SIZE + ") or every "
+                    + "entry created between 'from' and 'to' (inclusive dates), in one transaction of chunked "
+                    + "deletes. Responds 503 and deletes nothing when a chunk exceeds the statement time budget.")
+    public ResponseEntity<JournalBulkDeleteResponse> deleteJournals(
+            @RequestParam String userId,
+            @Valid @RequestBody JournalBulkDeleteRequest request) {
+
+        int deleted = journalService.deleteJournals(userId, request.ids(), request.from(), request.to());
+
+        return ResponseEntity.ok(new JournalBulkDeleteResponse(deleted));
+    }
+}
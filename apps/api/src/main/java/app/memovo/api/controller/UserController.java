@@ -2,10 +2,12 @@ package app.memovo.api.controller;
 
 import app.memovo.api.application.UserService;
 import app.memovo.api.controller.docs.UserApiDocs;
+import app.memovo.api.controller.dto.UserPurgeResponse;
 import app.memovo.api.controller.dto.UserRequest;
 import app.memovo.api.controller.dto.UserResponse;
 import app.memovo.api.controller.mapper.UserControllerMapper;
 import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.model.UserPurge;
 import app.memovo.api.exception.UserNotFoundException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,6 +15,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/v1/users")
 @Tag(name = "Users", description = "User management operations")
@@ -51,8 +55,24 @@ public class UserController {
 
     @UserApiDocs.DeleteUserOperation
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteUser(@PathVariable String id) {
-        userService.deleteUser(id);
+    public ResponseEntity<UserPurgeResponse> deleteUser(@PathVariable String id,
+                                                        @RequestParam(defaultValue = "false") boolean async) {
+        if (!async) {
+            userService.deleteUser(id);
+            return ResponseEntity.noContent().build();
+        }
+        UserPurge purge = userService.startUserPurge(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/users/" + id + "/purge"))
+                .body(UserControllerMapper.toResponse(purge));
+    }
+
+    @UserApiDocs.GetUserPurgeOperation
+    @GetMapping("/{id}/purge")
+    public ResponseEntity<UserPurgeResponse> getUserPurge(@PathVariable String id) {
+        return userService.getUserPurge(id)
+                .map(UserControllerMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new UserNotFoundException("No purge found for user with id: " + id));
     }
 }
@@ -1,5 +1,6 @@
 package app.memovo.api.controller.docs;
 
+import app.memovo.api.controller.dto.UserPurgeResponse;
 import app.memovo.api.controller.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,7 +14,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 public class UserApiDocs {
 
     public static final String CREATE_USER_SUMMARY = "Create a new user";
-    public static final String CREATE_USER_DESCRIPTION = "Creates a new user in the system with the provided information.";
+    public static final String CREATE_USER_DESCRIPTION = "Creates a new user in the system with the provided information. "
+            + "Creating a user that already exists returns it unchanged.";
 
     public static final String GET_USER_SUMMARY = "Get user by ID";
     public static final String GET_USER_DESCRIPTION = "Retrieves a user's details by their unique identifier.";
@@ -22,7 +24,13 @@ public class UserApiDocs {
     public static final String UPDATE_USER_DESCRIPTION = "Updates the information of an existing user.";
 
     public static final String DELETE_USER_SUMMARY = "Delete a user";
-    public static final String DELETE_USER_DESCRIPTION = "Permanently deletes a user from the system.";
+    public static final String DELETE_USER_DESCRIPTION = "Permanently deletes a user and all of their journal entries. "
+            + "Entries are removed in bounded chunks before the user. Pass async=true for large accounts to run "
+            + "the purge in the background; the response then points to its progress.";
+
+    public static final String GET_USER_PURGE_SUMMARY = "Get the progress of a user purge";
+    public static final String GET_USER_PURGE_DESCRIPTION = "Returns the latest purge started with DELETE ?async=true "
+            + "for the user, including how many journal entries have been deleted so far.";
 
     @Operation(
         summary = CREATE_USER_SUMMARY,
@@ -32,6 +40,8 @@ public class UserApiDocs {
             @ApiResponse(responseCode = "201", description = "User created successfully",
                 content = @Content(schema = @Schema(implementation = UserResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Another user already has this email",
+                content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
         }
     )
@@ -70,9 +80,24 @@ public class UserApiDocs {
         security = {@SecurityRequirement(name = "BearerAuth")},
         responses = {
             @ApiResponse(responseCode = "204", description = "User deleted successfully", content = @Content),
+            @ApiResponse(responseCode = "202", description = "Purge started in the background",
+                content = @Content(schema = @Schema(implementation = UserPurgeResponse.class))),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
         }
     )
     public @interface DeleteUserOperation {}
+
+    @Operation(
+        summary = GET_USER_PURGE_SUMMARY,
+        description = GET_USER_PURGE_DESCRIPTION,
+        security = {@SecurityRequirement(name = "BearerAuth")},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Purge progress",
+                content = @Content(schema = @Schema(implementation = UserPurgeResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No purge was started for the user", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+        }
+    )
+    public @interface GetUserPurgeOperation {}
 }
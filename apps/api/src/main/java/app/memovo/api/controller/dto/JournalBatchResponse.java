@@ -0,0 +1,13 @@
+package app.memovo.api.controller.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record JournalBatchResponse(
+    @Schema(description = "Entries found, in the order their ids were requested")
+    List<JournalResponse> journals,
+
+    @Schema(description = "Requested ids that do not exist or belong to another user")
+    List<String> missingIds
+) {}
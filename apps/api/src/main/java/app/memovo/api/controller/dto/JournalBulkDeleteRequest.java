@@ -0,0 +1,20 @@
+package app.memovo.api.controller.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import app.memovo.api.application.JournalService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+public record JournalBulkDeleteRequest(
+    @Schema(description = "IDs of the entries to delete; ids of other users' entries are ignored")
+    @Size(max = JournalService.MAX_BULK_SIZE) List<String> ids,
+
+    @Schema(description = "First day (inclusive) of the range to delete; use together with 'to' instead of 'ids'",
+            example = "2024-01-01")
+    LocalDate from,
+
+    @Schema(description = "Last day (inclusive) of the range to delete", example = "2024-12-31")
+    LocalDate to
+) {}
@@ -0,0 +1,8 @@
+package app.memovo.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record JournalBulkDeleteResponse(
+    @Schema(description = "Number of entries deleted", example = "42")
+    int deleted
+) {}
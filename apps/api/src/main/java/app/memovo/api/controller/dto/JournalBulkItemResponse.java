@@ -0,0 +1,17 @@
+package app.memovo.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record JournalBulkItemResponse(
+    @Schema(description = "Position of the entry in the request", example = "0")
+    int index,
+
+    @Schema(description = "Outcome of the entry", allowableValues = {"created", "failed"})
+    String status,
+
+    @Schema(description = "The created journal entry; null when the entry failed")
+    JournalResponse journal,
+
+    @Schema(description = "Why the entry was rejected; null when it was created", example = "title is required")
+    String error
+) {}
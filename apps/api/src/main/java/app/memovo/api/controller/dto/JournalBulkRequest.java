@@ -0,0 +1,13 @@
+package app.memovo.api.controller.dto;
+
+import java.util.List;
+
+import app.memovo.api.application.JournalService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record JournalBulkRequest(
+    @Schema(description = "Entries to create; each one is validated and reported on individually")
+    @NotEmpty @Size(max = JournalService.MAX_BULK_SIZE) List<JournalRequest> entries
+) {}
@@ -0,0 +1,16 @@
+package app.memovo.api.controller.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record JournalBulkResponse(
+    @Schema(description = "Number of entries created", example = "2")
+    int created,
+
+    @Schema(description = "Number of entries rejected", example = "0")
+    int failed,
+
+    @Schema(description = "One result per requested entry, in request order")
+    List<JournalBulkItemResponse> results
+) {}
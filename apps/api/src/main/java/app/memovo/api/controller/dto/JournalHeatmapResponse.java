@@ -0,0 +1,20 @@
+package app.memovo.api.controller.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record JournalHeatmapResponse(
+    @Schema(description = "First day covered", example = "2025-03-01")
+    LocalDate from,
+
+    @Schema(description = "Last day covered (inclusive)", example = "2025-03-31")
+    LocalDate to,
+
+    @Schema(description = "Entries created in the period", example = "17")
+    long total,
+
+    @Schema(description = "Entries per day, one element per day starting at 'from'", example = "[0, 2, 1, 0]")
+    List<Integer> counts
+) {}
@@ -0,0 +1,16 @@
+package app.memovo.api.controller.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record JournalSummaryPageResponse(
+    @Schema(description = "Journal summaries, newest first")
+    List<JournalSummaryResponse> items,
+
+    @Schema(description = "Opaque cursor to pass as 'cursor' for the next page; null on the last page")
+    String nextCursor,
+
+    @Schema(description = "Whether more entries exist after this page")
+    boolean hasMore
+) {}
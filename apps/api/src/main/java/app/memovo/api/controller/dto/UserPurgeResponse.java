@@ -0,0 +1,27 @@
+package app.memovo.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+public record UserPurgeResponse(
+    @Schema(description = "ID of the user being purged", example = "user_123")
+    String userId,
+
+    @Schema(description = "RUNNING, COMPLETED or FAILED", example = "RUNNING")
+    String state,
+
+    @Schema(description = "Journal entries the user had when the purge started", example = "250000")
+    long journalsTotal,
+
+    @Schema(description = "Journal entries deleted so far", example = "45000")
+    long journalsDeleted,
+
+    @Schema(description = "Timestamp when the purge started")
+    LocalDateTime startedAt,
+
+    @Schema(description = "Timestamp when the purge finished, null while running")
+    LocalDateTime finishedAt,
+
+    @Schema(description = "Failure reason when state is FAILED")
+    String error
+) {}
@@ -1,11 +1,34 @@
 package app.memovo.api.controller.mapper;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
+import app.memovo.api.controller.dto.JournalBatchResponse;
+import app.memovo.api.controller.dto.JournalBulkItemResponse;
+import app.memovo.api.controller.dto.JournalBulkRequest;
+import app.memovo.api.controller.dto.JournalBulkResponse;
+import app.memovo.api.controller.dto.JournalHeatmapResponse;
+import app.memovo.api.controller.dto.JournalPageResponse;
 import app.memovo.api.controller.dto.JournalRequest;
+import app.memovo.api.controller.dto.JournalSummaryPageResponse;
+import app.memovo.api.controller.dto.JournalSummaryResponse;
 import app.memovo.api.controller.dto.JournalUpdateRequest;
 import app.memovo.api.controller.dto.JournalResponse;
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalBatch;
+import app.memovo.api.domain.model.JournalCreateResult;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalHeatmap;
+import app.memovo.api.domain.model.JournalPage;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.JournalSummaryPage;
+import app.memovo.api.exception.InvalidCursorException;
 
 @Component
 public class JournalControllerMapper {
@@ -20,6 +43,12 @@ public class JournalControllerMapper {
         return journal;
     }
 
+    public List<Journal> toDomain(JournalBulkRequest request) {
+        if (request == null) return null;
+
+        return request.entries().stream().map(this::toDomain).toList();
+    }
+
     public Journal toDomain(JournalUpdateRequest request) {
         if (request == null) return null;
 
@@ -30,6 +59,20 @@ public class JournalControllerMapper {
         return journal;
     }
 
+    public JournalBatchResponse toResponse(JournalBatch batch) {
+        if (batch == null) return null;
+
+        return new JournalBatchResponse(
+            batch.journals().stream().map(this::toResponse).toList(),
+            batch.missingIds());
+    }
+
+    public JournalHeatmapResponse toResponse(JournalHeatmap heatmap) {
+        if (heatmap == null) return null;
+
+        return new JournalHeatmapResponse(heatmap.from(), heatmap.to(), heatmap.total(), heatmap.counts());
+    }
+
     public JournalResponse toResponse(Journal domain) {
         if (domain == null) return null;
         
@@ -41,4 +84,79 @@ public class JournalControllerMapper {
             domain.getCreatedAt()
         );
     }
+
+    public JournalPageResponse toResponse(JournalPage page) {
+        if (page == null) return null;
+
+        return new JournalPageResponse(
+            page.items().stream().map(this::toResponse).toList(),
+            encodeCursor(page.nextCursor()),
+            page.hasMore()
+        );
+    }
+
+    public JournalSummaryResponse toResponse(JournalSummary summary) {
+        if (summary == null) return null;
+
+        return new JournalSummaryResponse(
+            summary.id(),
+            summary.userId(),
+            summary.title(),
+            summary.createdAt(),
+            summary.snippet()
+        );
+    }
+
+    public JournalSummaryPageResponse toResponse(JournalSummaryPage page) {
+        if (page == null) return null;
+
+        return new JournalSummaryPageResponse(
+            page.items().stream().map(this::toResponse).toList(),
+            encodeCursor(page.nextCursor()),
+            page.hasMore()
+        );
+    }
+
+    public JournalBulkResponse toResponse(List<JournalCreateResult> results) {
+        if (results == null) return null;
+
+        List<JournalBulkItemResponse> items = results.stream()
+            .map(result -> new JournalBulkItemResponse(
+                result.index(),
+                result.isCreated() ? "created" : "failed",
+                toResponse(result.journal()),
+                result.error()))
+            .toList();
+        int created = (int) results.stream().filter(JournalCreateResult::isCreated).count();
+
+        return new JournalBulkResponse(created, results.size() - created, items);
+    }
+
+    /**
+     * Cursors are opaque to clients: base64url of "createdAt|id"
+     */
+    public String encodeCursor(JournalCursor cursor) {
+        if (cursor == null) return null;
+
+        String raw = cursor.createdAt() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public JournalCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new JournalCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)).toString()
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
 }
\ No newline at end of file
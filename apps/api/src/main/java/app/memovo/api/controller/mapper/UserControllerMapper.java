@@ -1,8 +1,10 @@
 package app.memovo.api.controller.mapper;
 
+import app.memovo.api.controller.dto.UserPurgeResponse;
 import app.memovo.api.controller.dto.UserRequest;
 import app.memovo.api.controller.dto.UserResponse;
 import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.model.UserPurge;
 
 public class UserControllerMapper {
 
@@ -27,4 +29,17 @@ public class UserControllerMapper {
             user.getUpdatedAt()
         );
     }
+
+    public static UserPurgeResponse toResponse(UserPurge purge) {
+        if (purge == null) return null;
+        return new UserPurgeResponse(
+            purge.userId(),
+            purge.state().name(),
+            purge.journalsTotal(),
+            purge.journalsDeleted(),
+            purge.startedAt(),
+            purge.finishedAt(),
+            purge.error()
+        );
+    }
 }
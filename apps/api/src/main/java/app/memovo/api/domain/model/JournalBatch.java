@@ -0,0 +1,10 @@
+package app.memovo.api.domain.model;
+
+import java.util.List;
+
+/**
+ * Result of looking several journals up at once: the ones found, in request
+ * order, and the requested ids that did not resolve to a journal of the user.
+ */
+public record JournalBatch(List<Journal> journals, List<String> missingIds) {
+}
@@ -0,0 +1,19 @@
+package app.memovo.api.domain.model;
+
+/**
+ * Outcome of one entry in a bulk create: either the stored journal or the reason it was rejected
+ */
+public record JournalCreateResult(int index, Journal journal, String error) {
+
+    public static JournalCreateResult created(int index, Journal journal) {
+        return new JournalCreateResult(index, journal, null);
+    }
+
+    public static JournalCreateResult failed(int index, String error) {
+        return new JournalCreateResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return journal != null;
+    }
+}
@@ -0,0 +1,18 @@
+package app.memovo.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a user's journal list ordered by (createdAt, id) descending.
+ * A page continues strictly after this position.
+ */
+public record JournalCursor(LocalDateTime createdAt, String id) {
+
+    public static JournalCursor of(Journal journal) {
+        return new JournalCursor(journal.getCreatedAt(), journal.getId());
+    }
+
+    public static JournalCursor of(JournalSummary summary) {
+        return new JournalCursor(summary.createdAt(), summary.id());
+    }
+}
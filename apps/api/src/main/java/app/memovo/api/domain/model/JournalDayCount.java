@@ -0,0 +1,9 @@
+package app.memovo.api.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Number of journals a user created on one calendar day.
+ */
+public record JournalDayCount(LocalDate day, long count) {
+}
@@ -0,0 +1,11 @@
+package app.memovo.api.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Journals per day over {@code from}..{@code to} (inclusive): {@code counts}
+ * has one entry per day, starting at {@code from}, with zeros for empty days.
+ */
+public record JournalHeatmap(LocalDate from, LocalDate to, long total, List<Integer> counts) {
+}
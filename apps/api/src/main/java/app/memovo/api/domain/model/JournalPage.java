@@ -0,0 +1,10 @@
+package app.memovo.api.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated journal listing. {@code nextCursor} is null
+ * when there are no more entries.
+ */
+public record JournalPage(List<Journal> items, JournalCursor nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,10 @@
+package app.memovo.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Content-free view of a journal for list screens. {@code snippet} holds the
+ * first characters of the content when requested, otherwise null.
+ */
+public record JournalSummary(String id, String userId, String title, LocalDateTime createdAt, String snippet) {
+}
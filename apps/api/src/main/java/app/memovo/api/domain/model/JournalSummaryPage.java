@@ -0,0 +1,10 @@
+package app.memovo.api.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated journal summary listing. {@code nextCursor}
+ * is null when there are no more entries.
+ */
+public record JournalSummaryPage(List<JournalSummary> items, JournalCursor nextCursor, boolean hasMore) {
+}
@@ -0,0 +1,33 @@
+package app.memovo.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress snapshot of a user purge. {@code journalsTotal} is counted when the
+ * purge starts; {@code error} is only set for {@link State#FAILED}.
+ */
+public record UserPurge(String userId, State state, long journalsTotal, long journalsDeleted,
+                        LocalDateTime startedAt, LocalDateTime finishedAt, String error) {
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    public static UserPurge started(String userId, long journalsTotal) {
+        return new UserPurge(userId, State.RUNNING, journalsTotal, 0, LocalDateTime.now(), null, null);
+    }
+
+    public UserPurge progressed(long deleted) {
+        return new UserPurge(userId, state, journalsTotal, journalsDeleted + deleted, startedAt, null, null);
+    }
+
+    public UserPurge completed() {
+        return new UserPurge(userId, State.COMPLETED, journalsTotal, journalsDeleted, startedAt, LocalDateTime.now(), null);
+    }
+
+    public UserPurge failed(String error) {
+        return new UserPurge(userId, State.FAILED, journalsTotal, journalsDeleted, startedAt, LocalDateTime.now(), error);
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
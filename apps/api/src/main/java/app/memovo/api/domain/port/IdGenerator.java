@@ -0,0 +1,12 @@
+package app.memovo.api.domain.port;
+
+/**
+ * Source of identifiers for newly created aggregates
+ */
+public interface IdGenerator {
+
+    /**
+     * @return a new unique id in canonical UUID text form
+     */
+    String newId();
+}
@@ -0,0 +1,24 @@
+package app.memovo.api.domain.port;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Renders journals in the database straight to the JSON the API returns,
+ * without loading them into objects first. Only some databases can do this;
+ * callers check {@link #isAvailable()} and otherwise go through
+ * {@link JournalRepository}.
+ */
+public interface JournalJsonRepository {
+
+    boolean isAvailable();
+
+    /**
+     * Writes all journals of the user, newest first, to {@code out} as a JSON
+     * array whose elements have exactly the JournalResponse shape, byte for
+     * byte as the API's JSON mapper would write them.
+     *
+     * @return the number of journals written
+     */
+    long writeByUserId(String userId, OutputStream out) throws IOException;
+}
@@ -1,21 +1,136 @@
 package app.memovo.api.domain.port;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalSummary;
 
 public interface JournalRepository {
     // 1. Must return 'Journal', not 'User'
     Journal save(Journal journal);
 
+    /**
+     * Stores a journal that does not exist yet, with its id already assigned,
+     * in a single INSERT; unlike {@link #save} it does not look for an
+     * existing row first.
+     */
+    Journal insert(Journal journal);
+
+    /**
+     * Inserts journals that do not exist yet, with ids already assigned, in a
+     * single transaction using batched statements.
+     *
+     * @return the stored journals, in input order
+     */
+    List<Journal> insertAll(List<Journal> journals);
+
+    /**
+     * Applies the non-null title and content of {@code changes} to the journal
+     * in a single UPDATE, scoped to {@code userId}, that also returns the
+     * resulting row. The owner itself is never changed.
+     *
+     * @return the updated journal, or empty when {@code userId} has no journal with that id
+     */
+    Optional<Journal> patch(String id, String userId, Journal changes);
+
     // 2. Must return 'Optional<Journal>'
     Optional<Journal> findById(String id);
 
+    /**
+     * Looks the journal up by id in one primary-key query. Title and content
+     * are only read when the journal belongs to {@code userId}; otherwise they
+     * are null and {@link Journal#getUserId()} names the real owner, which is
+     * enough to tell a forbidden journal from a missing one.
+     */
+    Optional<Journal> findByIdForUser(String id, String userId);
+
+    /**
+     * Looks up the journals among {@code ids} that belong to {@code userId} in
+     * a single query. Missing, foreign and malformed ids are simply absent
+     * from the result, which is in no particular order.
+     */
+    List<Journal> findAllByIds(Collection<String> ids, String userId);
+
     // 3. Delete method
     void deleteById(String id);
 
+    /**
+     * Deletes the journal only if it belongs to {@code userId}.
+     *
+     * @return the number of rows deleted, 0 or 1
+     */
+    int deleteByIdAndUserId(String id, String userId);
+
+    /**
+     * Deletes those of {@code ids} that belong to {@code userId} in one
+     * transaction, one DELETE per chunk of ids, without loading them. Missing,
+     * foreign and malformed ids are skipped.
+     *
+     * @return the number of journals deleted
+     */
+    int deleteAllByIdsAndUserId(Collection<String> ids, String userId);
+
+    /**
+     * Deletes the user's journals created in [{@code from}, {@code to}) in one
+     * transaction, as repeated DELETEs of at most one chunk each.
+     *
+     * @return the number of journals deleted
+     */
+    int deleteAllByUserIdAndCreatedAtBetween(String userId, LocalDateTime from, LocalDateTime to);
+
     boolean existsById(String id);
 
+    long countByUserId(String userId);
+
+    /**
+     * Deletes at most {@code limit} journals of the user in one statement and
+     * its own transaction, so purging a large account never holds a long
+     * transaction or loads the journals.
+     *
+     * @return the number of journals deleted; 0 once none are left
+     */
+    int deleteChunkByUserId(String userId, int limit);
+
     List<Journal> findByUserId(String userId);
+
+    /**
+     * Returns the user's journals created in [{@code from}, {@code to}),
+     * newest first.
+     */
+    List<Journal> findByUserIdAndCreatedAtBetween(String userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Counts the user's journals per calendar day of {@code createdAt} in
+     * [{@code from}, {@code to}), in one grouped query. Days without journals
+     * are omitted; the result is ordered by day.
+     */
+    List<JournalDayCount> countByUserIdPerDay(String userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns up to {@code limit} journals of the user ordered by (createdAt, id)
+     * descending, starting strictly after {@code after} (or from the newest
+     * entry when {@code after} is null).
+     */
+    List<Journal> findPageByUserId(String userId, JournalCursor after, int limit);
+
+    /**
+     * Same ordering and paging as {@link #findPageByUserId}, but projected to
+     * summaries without loading the content column. When {@code snippetLength}
+     * is positive, only that many leading characters of the content are read.
+     */
+    List<JournalSummary> findSummaryPageByUserId(String userId, JournalCursor after, int limit, int snippetLength);
+
+    /**
+     * Feeds every journal of the user to {@code action}, newest first, one at a
+     * time from a forward-only cursor, without materialising the full list.
+     *
+     * @return the number of journals visited
+     */
+    long forEachByUserId(String userId, Consumer<Journal> action);
 }
\ No newline at end of file
@@ -5,6 +5,20 @@ import java.util.Optional;
 
 public interface UserRepository {
     User save(User user);
+    /**
+     * Stores a user that does not exist yet in a single INSERT, without first
+     * looking for an existing row. When a user with the same id already exists
+     * (a redelivered create), that user is returned unchanged.
+     *
+     * @throws app.memovo.api.exception.UserAlreadyExistsException when the
+     *         email belongs to another user
+     */
+    User insert(User user);
     Optional<User> findById(String id);
+    /**
+     * Deletes the user row without loading it; remaining journals are removed
+     * by the database's ON DELETE CASCADE.
+     */
     void deleteById(String id);
+    boolean existsById(String id);
 }
@@ -0,0 +1,11 @@
+package app.memovo.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidJournalFilterException extends RuntimeException {
+    public InvalidJournalFilterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package app.memovo.api.exception;
+
+import java.util.NoSuchElementException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class JournalNotFoundException extends NoSuchElementException {
+    public JournalNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package app.memovo.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A statement ran past its configured time budget and its transaction was
+ * rolled back; retrying with a narrower filter usually succeeds.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class StatementTimeoutException extends RuntimeException {
+    public StatementTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
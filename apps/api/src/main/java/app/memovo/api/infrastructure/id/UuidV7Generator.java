@@ -0,0 +1,79 @@
+package app.memovo.api.infrastructure.id;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+
+import app.memovo.api.domain.port.IdGenerator;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562)
+ *
+ * Layout: 48-bit Unix millis | version 7 | 12-bit counter | variant | 62 random bits.
+ * The counter makes ids strictly increasing within this process even when many
+ * are created in the same millisecond or the clock steps back. On counter overflow
+ * the timestamp is advanced by one millisecond. Because consecutive ids are close
+ * together, inserts append to the right edge of the primary-key B-tree instead of
+ * landing on random pages the way UUIDv4 keys do.
+ */
+@Component
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier currentMillis;
+    private final Random random;
+
+    // (millis << COUNTER_BITS) | counter of the last issued id
+    private final AtomicLong lastTimeAndCounter = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    UuidV7Generator(LongSupplier currentMillis, Random random) {
+        this.currentMillis = currentMillis;
+        this.random = random;
+    }
+
+    @Override
+    public String newId() {
+        return next().toString();
+    }
+
+    public UUID next() {
+        long timeAndCounter = nextTimeAndCounter();
+        long millis = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & COUNTER_MASK;
+
+        long mostSigBits = (millis << 16) | VERSION_7 | counter;
+        long leastSigBits = VARIANT_RFC | (random.nextLong() & RAND_B_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextTimeAndCounter() {
+        long now = currentMillis.getAsLong();
+        while (true) {
+            long last = lastTimeAndCounter.get();
+            long next;
+            if (now > last >>> COUNTER_BITS) {
+                // New millisecond: start the counter at a random value with its top bit
+                // clear, leaving at least 2048 increments before it spills into the clock
+                next = (now << COUNTER_BITS) | random.nextInt(1 << (COUNTER_BITS - 1));
+            } else {
+                next = last + 1;
+            }
+            if (lastTimeAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
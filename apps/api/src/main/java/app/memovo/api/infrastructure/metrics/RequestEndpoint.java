@@ -0,0 +1,48 @@
+package app.memovo.api.infrastructure.metrics;
+
+/**
+ * The endpoint (HTTP method and URI template) the current thread is serving,
+ * for tagging metrics recorded below the web layer, such as how long a
+ * connection is held. Set per request by {@link RequestEndpointInterceptor}
+ * and carried over to the threads that write streamed responses by
+ * {@link #propagate(Runnable)}; {@link #NONE} on other threads.
+ */
+public record RequestEndpoint(String method, String uri) {
+
+    public static final RequestEndpoint NONE = new RequestEndpoint("none", "none");
+
+    private static final ThreadLocal<RequestEndpoint> CURRENT = new ThreadLocal<>();
+
+    public static RequestEndpoint current() {
+        RequestEndpoint endpoint = CURRENT.get();
+        return endpoint != null ? endpoint : NONE;
+    }
+
+    static void set(RequestEndpoint endpoint) {
+        CURRENT.set(endpoint);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps {@code task} to run as part of the endpoint that submitted it;
+     * meant as the TaskDecorator of the executor running async MVC work.
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestEndpoint endpoint = CURRENT.get();
+        if (endpoint == null) {
+            return task;
+        }
+        return () -> {
+            RequestEndpoint previous = CURRENT.get();
+            CURRENT.set(endpoint);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package app.memovo.api.infrastructure.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Publishes the matched endpoint as the {@link RequestEndpoint} of the thread
+ * handling the request, for as long as it handles it.
+ */
+@Component
+public class RequestEndpointInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestEndpoint.set(new RequestEndpoint(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN"));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The response now continues on another thread, which got its own copy
+        RequestEndpoint.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestEndpoint.clear();
+    }
+}
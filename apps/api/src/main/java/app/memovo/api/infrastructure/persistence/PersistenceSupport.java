@@ -0,0 +1,88 @@
+package app.memovo.api.infrastructure.persistence;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import app.memovo.api.exception.StatementTimeoutException;
+
+/**
+ * Rules every journal repository implementation (JPA, sharded JDBC) applies
+ * the same way: how request ids map to entry ids, and how the per-statement
+ * budget of bulk deletes is set and recognised when it runs out.
+ */
+public final class PersistenceSupport {
+
+    // SQLState of a cancelled statement, which is how Postgres reports a JDBC query timeout
+    private static final String QUERY_CANCELED = "57014";
+
+    private PersistenceSupport() {
+    }
+
+    /**
+     * Journal ids are UUIDs; any other string cannot match a row and yields
+     * an empty result instead of an error.
+     */
+    public static Optional<UUID> parseId(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The distinct entry ids among {@code ids}, skipping those that cannot match a row.
+     */
+    public static List<UUID> parseIds(Collection<String> ids) {
+        return ids.stream()
+            .map(PersistenceSupport::parseId)
+            .flatMap(Optional::stream)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * JDBC query timeouts have one-second resolution; rounds up so that a
+     * budget never becomes 0, which means "no limit".
+     */
+    public static int queryTimeoutSeconds(Duration budget) {
+        return (int) Math.max(1, (budget.toMillis() + 999) / 1000);
+    }
+
+    /**
+     * Whether {@code e} was caused by a statement running out of its query
+     * timeout. Postgres reports that as a plain cancel, which neither
+     * Hibernate nor Spring classify as a query timeout.
+     */
+    public static boolean isStatementTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof jakarta.persistence.QueryTimeoutException
+                    || cause instanceof org.springframework.dao.QueryTimeoutException
+                    || cause instanceof SQLTimeoutException
+                    || cause instanceof SQLException sql && QUERY_CANCELED.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * What a failed bulk delete chunk is rethrown as: a {@link StatementTimeoutException}
+     * when it overran its budget of {@code timeoutSeconds}, otherwise {@code e} itself.
+     */
+    public static RuntimeException deleteFailure(RuntimeException e, int timeoutSeconds) {
+        if (isStatementTimeout(e)) {
+            return new StatementTimeoutException(
+                "Deleting journals took longer than " + timeoutSeconds + "s per chunk; narrow the filter", e);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,204 @@
+package app.memovo.api.infrastructure.persistence.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.infrastructure.persistence.compression.CompressedJournal;
+import app.memovo.api.infrastructure.persistence.compression.JournalContentCodec;
+
+/**
+ * Cold tier of journal content: the journal_archive table (V6) of gzip
+ * compressed content, keyed like journals. An archived journal is a stub row in
+ * journals with neither plain nor compressed content; reads fill the content back in from here,
+ * for the returned stubs only and in one query per read.
+ *
+ * Journals stored without content look like stubs too; the archive has nothing
+ * for them, so their content simply stays null. Writes that put content back
+ * into journals {@link #discard discard} the archived copy.
+ */
+@Component
+public class JournalArchiveStore {
+
+    private static final int FIND_CHUNK_SIZE = 1000;
+    // created_at is redundant for the match but lets Postgres skip the other months' partitions
+    private static final String FIND =
+        "select entry_id, content from journal_archive where entry_id in (:ids) and created_at in (:createdAts)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public JournalArchiveStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Sets the archived content of every stub among {@code journals}, in place.
+     *
+     * @return {@code journals}
+     */
+    public <T extends Collection<Journal>> T rehydrate(T journals) {
+        List<Key> stubs = new ArrayList<>();
+        for (Journal journal : journals) {
+            if (isStub(journal)) {
+                stubs.add(new Key(UUID.fromString(journal.getId()), journal.getCreatedAt()));
+            }
+        }
+        if (stubs.isEmpty()) {
+            return journals;
+        }
+        Map<UUID, String> contents = findContents(stubs);
+        for (Journal journal : journals) {
+            if (isStub(journal)) {
+                journal.setContent(contents.get(UUID.fromString(journal.getId())));
+            }
+        }
+        return journals;
+    }
+
+    // A compressed journal holds content, and asking it for that would inflate it
+    private static boolean isStub(Journal journal) {
+        return journal.getId() != null && !(journal instanceof CompressedJournal) && journal.getContent() == null;
+    }
+
+    /**
+     * Same as {@link #rehydrate(Collection)} for a single journal.
+     */
+    public Journal rehydrate(Journal journal) {
+        return rehydrate(List.of(journal)).getFirst();
+    }
+
+    /**
+     * Returns {@code summaries} with the snippet of every stub taken from its
+     * archived content, when snippets were asked for.
+     */
+    public List<JournalSummary> rehydrateSnippets(List<JournalSummary> summaries, int snippetLength) {
+        if (snippetLength <= 0 || summaries.stream().allMatch(summary -> summary.snippet() != null)) {
+            return summaries;
+        }
+        Map<UUID, String> contents = findContents(summaries.stream()
+            .filter(summary -> summary.snippet() == null)
+            .map(summary -> new Key(UUID.fromString(summary.id()), summary.createdAt()))
+            .toList());
+        if (contents.isEmpty()) {
+            return summaries;
+        }
+        return summaries.stream()
+            .map(summary -> {
+                String content = summary.snippet() == null ? contents.get(UUID.fromString(summary.id())) : null;
+                if (content == null) {
+                    return summary;
+                }
+                return new JournalSummary(summary.id(), summary.userId(), summary.title(), summary.createdAt(),
+                    content.substring(0, Math.min(snippetLength, content.length())));
+            })
+            .toList();
+    }
+
+    private Map<UUID, String> findContents(List<Key> keys) {
+        Map<UUID, String> contents = new HashMap<>();
+        // Bounded IN lists; a full journal list can hold thousands of stubs
+        for (int start = 0; start < keys.size(); start += FIND_CHUNK_SIZE) {
+            List<Key> chunk = keys.subList(start, Math.min(start + FIND_CHUNK_SIZE, keys.size()));
+            Map<String, Object> params = Map.of(
+                "ids", chunk.stream().map(Key::id).toList(),
+                "createdAts", chunk.stream().map(key -> Timestamp.valueOf(key.createdAt())).distinct().toList());
+            namedJdbcTemplate.query(FIND, params, row -> {
+                contents.put(row.getObject("entry_id", UUID.class), decompress(row.getBytes("content")));
+            });
+        }
+        return contents;
+    }
+
+    /**
+     * Drops the archived copy of a journal whose content was written again, so
+     * that the old content is neither kept nor read back.
+     */
+    public void discard(UUID id, LocalDateTime createdAt) {
+        jdbcTemplate.update("delete from journal_archive where entry_id = ? and created_at = ?",
+            id, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * Moves the content of up to {@code limit} of the user's journals created
+     * before {@code before} that still hold it, oldest first, into the archive
+     * and leaves stubs behind. Must run inside a transaction, which holds the
+     * journals being moved locked until it commits.
+     *
+     * @return the number of journals archived
+     */
+    public int archiveChunk(String userId, LocalDateTime before, int limit, LocalDateTime now) {
+        List<Object[]> moved = new ArrayList<>();
+        List<Object[]> keys = new ArrayList<>();
+        jdbcTemplate.query("""
+                select entry_id, created_at, content, content_compressed from journals
+                where user_id = ? and created_at < ?
+                  and (content is not null or content_compressed is not null)
+                order by created_at, entry_id
+                limit ?
+                for update
+                """,
+            row -> {
+                Object id = row.getObject("entry_id", UUID.class);
+                Timestamp createdAt = row.getTimestamp("created_at");
+                byte[] compressed = row.getBytes("content_compressed");
+                String content = compressed != null ? JournalContentCodec.decode(compressed) : row.getString("content");
+                moved.add(new Object[] {id, createdAt, compress(content), Timestamp.valueOf(now)});
+                keys.add(new Object[] {id, createdAt});
+            },
+            userId, Timestamp.valueOf(before), limit);
+        if (moved.isEmpty()) {
+            return 0;
+        }
+        // Rewrites discard the old copy, but one left by a write that did not (or a failed discard) would
+        // collide with the insert
+        jdbcTemplate.batchUpdate("delete from journal_archive where entry_id = ? and created_at = ?", keys);
+        jdbcTemplate.batchUpdate(
+            "insert into journal_archive (entry_id, created_at, content, archived_at) values (?, ?, ?, ?)", moved);
+        jdbcTemplate.batchUpdate(
+            "update journals set content = null, content_compressed = null where entry_id = ? and created_at = ?", keys);
+        return moved.size();
+    }
+
+    public static byte[] compress(String content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, content.length() / 2));
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] compressed) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(UUID id, LocalDateTime createdAt) {
+    }
+}
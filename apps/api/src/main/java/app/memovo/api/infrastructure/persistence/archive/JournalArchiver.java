@@ -0,0 +1,175 @@
+package app.memovo.api.infrastructure.persistence.archive;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job moving the content of journals older than
+ * {@code journals.archive.older-than} to the cold tier ({@link JournalArchiveStore}).
+ *
+ * Walks users in id order and each user's journals oldest first, one chunk per
+ * transaction, so it never holds long locks or transactions. Progress is kept
+ * in journal_archive_checkpoint: a run fixes its cutoff when it starts and
+ * records every finished user, so a run cut short by a restart resumes after
+ * the last finished user with the same cutoff. Every run looks at all journals
+ * created before its cutoff that still hold content, so journals rewritten
+ * since they were archived are archived again; for each user that walk passes
+ * over the stubs already archived, through the (user_id, created_at) index. A
+ * lease on the checkpoint row keeps other instances from running the job at
+ * the same time.
+ */
+@Component
+@ConditionalOnExpression("${journals.archive.enabled:false} and !${journals.sharding.enabled:false}")
+public class JournalArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalArchiver.class);
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JournalArchiveStore store;
+    private final TransactionOperations transactions;
+    private final Duration olderThan;
+    private final int chunkSize;
+    private final Clock clock;
+
+    @Autowired
+    public JournalArchiver(JdbcTemplate jdbcTemplate,
+                           JournalArchiveStore store,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${journals.archive.older-than:365d}") Duration olderThan,
+                           @Value("${journals.archive.chunk-size:500}") int chunkSize) {
+        // Same zone as the LocalDateTime.now() that stamps created_at
+        this(jdbcTemplate, store, new TransactionTemplate(transactionManager), olderThan, chunkSize,
+            Clock.systemDefaultZone());
+    }
+
+    JournalArchiver(JdbcTemplate jdbcTemplate, JournalArchiveStore store, TransactionOperations transactions,
+                    Duration olderThan, int chunkSize, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.store = store;
+        this.transactions = transactions;
+        this.olderThan = olderThan;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${journals.archive.cron:0 45 3 * * *}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * Runs the job to completion, resuming an interrupted run if there is one.
+     *
+     * @return the number of journals archived, or -1 when another instance holds the lease
+     */
+    public long run() {
+        if (!acquireLease()) {
+            log.info("Journal archiving skipped: another instance is running it");
+            return -1;
+        }
+        try {
+            Checkpoint checkpoint = startOrResume();
+            long archived = 0;
+            String afterUser = checkpoint.afterUser() != null ? checkpoint.afterUser() : "";
+            List<String> users;
+            while (!(users = nextUsers(afterUser)).isEmpty()) {
+                for (String userId : users) {
+                    archived += archiveUser(userId, checkpoint.cutoff());
+                    saveProgress(userId);
+                }
+                afterUser = users.getLast();
+            }
+            finish(checkpoint);
+            log.info("Archived {} journals created before {}", archived, checkpoint.cutoff());
+            return archived;
+        } finally {
+            jdbcTemplate.update("update journal_archive_checkpoint set leased_until = null where id = 1");
+        }
+    }
+
+    private long archiveUser(String userId, LocalDateTime cutoff) {
+        long archived = 0;
+        int moved;
+        do {
+            moved = transactions.execute(status ->
+                store.archiveChunk(userId, cutoff, chunkSize, LocalDateTime.now(clock)));
+            archived += moved;
+        } while (moved == chunkSize);
+        return archived;
+    }
+
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return jdbcTemplate.update("""
+                update journal_archive_checkpoint set leased_until = ?
+                where id = 1 and (leased_until is null or leased_until < ?)
+                """, Timestamp.valueOf(now.plus(LEASE)), Timestamp.valueOf(now)) == 1;
+    }
+
+    private Checkpoint startOrResume() {
+        Checkpoint checkpoint = jdbcTemplate.queryForObject(
+            "select archived_before, run_cutoff, run_after_user from journal_archive_checkpoint where id = 1",
+            (row, i) -> new Checkpoint(
+                toLocalDateTime(row.getTimestamp("archived_before")),
+                toLocalDateTime(row.getTimestamp("run_cutoff")),
+                row.getString("run_after_user")));
+        if (checkpoint.cutoff() != null) {
+            log.info("Resuming journal archiving for entries created before {} after user {}",
+                checkpoint.cutoff(), checkpoint.afterUser());
+            return checkpoint;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(olderThan);
+        jdbcTemplate.update(
+            "update journal_archive_checkpoint set run_cutoff = ?, run_after_user = null where id = 1",
+            Timestamp.valueOf(cutoff));
+        return new Checkpoint(checkpoint.archivedBefore(), cutoff, null);
+    }
+
+    private List<String> nextUsers(String afterUser) {
+        return jdbcTemplate.queryForList("select id from users where id > ? order by id limit ?",
+            String.class, afterUser, USER_BATCH_SIZE);
+    }
+
+    // Also renews the lease; a single user's journals never take anywhere near LEASE
+    private void saveProgress(String userId) {
+        jdbcTemplate.update("update journal_archive_checkpoint set run_after_user = ?, leased_until = ? where id = 1",
+            userId, Timestamp.valueOf(LocalDateTime.now(clock).plus(LEASE)));
+    }
+
+    private void finish(Checkpoint checkpoint) {
+        LocalDateTime archivedBefore = checkpoint.archivedBefore() != null
+                && checkpoint.archivedBefore().isAfter(checkpoint.cutoff())
+            ? checkpoint.archivedBefore()
+            : checkpoint.cutoff();
+        jdbcTemplate.update("""
+                update journal_archive_checkpoint
+                set archived_before = ?, run_cutoff = null, run_after_user = null
+                where id = 1
+                """, Timestamp.valueOf(archivedBefore));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record Checkpoint(LocalDateTime archivedBefore, LocalDateTime cutoff, String afterUser) {
+    }
+}
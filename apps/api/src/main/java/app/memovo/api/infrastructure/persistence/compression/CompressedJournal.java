@@ -0,0 +1,38 @@
+package app.memovo.api.infrastructure.persistence.compression;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import app.memovo.api.domain.model.Journal;
+
+/**
+ * A journal read from the content_compressed column. Its content is inflated
+ * the first time it is asked for, so journals that are never returned with
+ * their content (the extra row a page fetches, journals only checked for
+ * ownership) do not pay for it.
+ */
+public class CompressedJournal extends Journal {
+
+    private Supplier<String> decoder;
+
+    public CompressedJournal(String id, String userId, String title, Supplier<String> decoder,
+                             LocalDateTime createdAt) {
+        super(id, userId, title, null, createdAt);
+        this.decoder = decoder;
+    }
+
+    @Override
+    public String getContent() {
+        if (decoder != null) {
+            super.setContent(decoder.get());
+            decoder = null;
+        }
+        return super.getContent();
+    }
+
+    @Override
+    public void setContent(String content) {
+        decoder = null;
+        super.setContent(content);
+    }
+}
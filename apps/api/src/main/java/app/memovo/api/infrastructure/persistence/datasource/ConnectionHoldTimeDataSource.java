@@ -0,0 +1,92 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import app.memovo.api.infrastructure.metrics.RequestEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times how long every connection taken from a pool is held, from checkout to
+ * close, as the db.connection.hold histogram tagged with the pool and the
+ * endpoint that took it (method and uri, "none" outside requests). Hikari's
+ * own hikaricp.connections.usage has the same number per pool only.
+ *
+ * Wraps the pool itself, below any LazyConnectionDataSourceProxy, so only the
+ * time a physical connection is actually out of the pool counts.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public static final String METRIC = "db.connection.hold";
+
+    private final String pool;
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestEndpoint, Timer> timers = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTimeDataSource(DataSource target, String pool, MeterRegistry meterRegistry) {
+        super(target);
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        long checkedOut = System.nanoTime();
+        Timer timer = timers.computeIfAbsent(RequestEndpoint.current(), endpoint -> Timer.builder(METRIC)
+            .description("Time a pooled connection is held, per endpoint")
+            .tags("pool", pool, "method", endpoint.method(), "uri", endpoint.uri())
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "close" -> {
+                    if (!closed[0]) {
+                        closed[0] = true;
+                        timer.record(System.nanoTime() - checkedOut, TimeUnit.NANOSECONDS);
+                    }
+                    connection.close();
+                    yield null;
+                }
+                default -> {
+                    try {
+                        yield method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            });
+    }
+
+    /**
+     * Closes the wrapped pool, if it can be closed.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable target) {
+            target.close();
+        }
+    }
+}
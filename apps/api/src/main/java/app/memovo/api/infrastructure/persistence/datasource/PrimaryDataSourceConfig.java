@@ -0,0 +1,45 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The single primary pool, used when no read replica is configured (see
+ * {@link ReadReplicaDataSourceConfig} for the other case). It keeps the
+ * spring.datasource.* settings.
+ *
+ * As with the replica, the application DataSource hands out lazy connections,
+ * so a transaction only holds a pooled connection from its first statement
+ * on, and connections are timed per endpoint by
+ * {@link ConnectionHoldTimeDataSource}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("'${datasource.replica.jdbc-url:}'.isBlank()")
+public class PrimaryDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ConnectionHoldTimeDataSource(
+            primaryDataSource, primaryDataSource.getPoolName(), meterRegistry));
+    }
+}
@@ -0,0 +1,86 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write routing between the primary database and a read replica
+ *
+ * Only active when datasource.replica.jdbc-url is set; otherwise Spring Boot's
+ * single pool is used as before. The primary pool keeps the spring.datasource.*
+ * settings and the replica pool is configured under datasource.replica.*.
+ *
+ * The application DataSource hands out lazy connections: the physical
+ * connection is only taken when the first statement runs, once the transaction
+ * has published its read-only flag. Read-only transactions then get a replica
+ * connection (or a primary one while the replica is down) and everything else
+ * gets the primary.
+ *
+ * Replicas lag behind the primary, so use cases that read before they write
+ * (updates, bulk create validation) run in one read-write transaction and
+ * therefore read from the primary.
+ *
+ * Both pools are wrapped in a {@link ConnectionHoldTimeDataSource}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${datasource.replica.jdbc-url:}'.isBlank()")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 @Value("${datasource.replica-retry-interval:PT30S}") Duration retryInterval,
+                                 MeterRegistry meterRegistry) {
+        DataSource primary = new ConnectionHoldTimeDataSource(
+            primaryDataSource, primaryDataSource.getPoolName(), meterRegistry);
+        DataSource replica = new ConnectionHoldTimeDataSource(
+            replicaDataSource, replicaDataSource.getPoolName(), meterRegistry);
+        DataSource readOnly = new ReplicaFallbackDataSource(replica, primary, retryInterval);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, readOnly));
+    }
+
+    /**
+     * Hibernate holds a session's connection until the session closes by default,
+     * so a session spanning several transactions (open-in-view) would keep running
+     * on whichever database its first transaction picked. Releasing after each
+     * transaction lets every transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,35 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections taken inside a read-only transaction to the read-only
+ * target and all others (read-write transactions, Flyway, plain JDBC outside
+ * a transaction) to the primary
+ *
+ * The routing decision reads the transaction's read-only flag, which Spring only
+ * publishes after the transaction has begun; callers must therefore wrap this
+ * in a LazyConnectionDataSourceProxy so the connection is taken at the first
+ * statement rather than at transaction begin.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String READ_ONLY = "read-only";
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource readOnly) {
+        setTargetDataSources(Map.of(PRIMARY, primary, READ_ONLY, readOnly));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READ_ONLY : PRIMARY;
+    }
+}
@@ -0,0 +1,103 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Read-only side of the read/write routing: hands out replica connections and
+ * falls back to the primary while the replica is unhealthy
+ *
+ * A replica checkout that fails (unreachable, or the pool could not supply a
+ * connection in time) marks the replica down for the retry interval. Meanwhile
+ * reads go straight to the primary instead of waiting on the replica pool; once
+ * the interval is over a single caller probes the replica again.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaFallbackDataSource.class);
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final Duration retryInterval;
+    private final Clock clock;
+
+    // null while the replica is healthy
+    private final AtomicReference<Instant> downUntil = new AtomicReference<>();
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryInterval) {
+        this(replica, primary, retryInterval, Clock.systemUTC());
+    }
+
+    ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryInterval, Clock clock) {
+        this.replica = replica;
+        this.primary = primary;
+        this.retryInterval = retryInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Whether read-only transactions currently go to the replica
+     */
+    public boolean isReplicaAvailable() {
+        return downUntil.get() == null;
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        if (!shouldTryReplica()) {
+            return opener.open(primary);
+        }
+        Connection connection;
+        try {
+            connection = opener.open(replica);
+        } catch (SQLException ex) {
+            markDown(ex);
+            return opener.open(primary);
+        }
+        if (downUntil.get() != null && downUntil.getAndSet(null) != null) {
+            log.info("Read replica is reachable again; routing read-only transactions to it");
+        }
+        return connection;
+    }
+
+    private boolean shouldTryReplica() {
+        Instant until = downUntil.get();
+        if (until == null) {
+            return true;
+        }
+        Instant now = clock.instant();
+        // Claiming the next interval lets exactly one caller probe; the others keep using the primary
+        return !now.isBefore(until) && downUntil.compareAndSet(until, now.plus(retryInterval));
+    }
+
+    private void markDown(SQLException cause) {
+        Instant until = clock.instant().plus(retryInterval);
+        if (downUntil.getAndSet(until) == null) {
+            log.warn("Read replica unavailable, using the primary for reads for {}: {}", retryInterval, cause.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -1,28 +1,85 @@
 package app.memovo.api.infrastructure.persistence.jpa.adapter;
 
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalSummary;
 import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.infrastructure.persistence.PersistenceSupport;
+import app.memovo.api.infrastructure.persistence.archive.JournalArchiveStore;
+import app.memovo.api.infrastructure.persistence.compression.JournalContentCodec;
 import app.memovo.api.infrastructure.persistence.jpa.entity.JournalJpaEntity;
 import app.memovo.api.infrastructure.persistence.jpa.mapper.JournalPersistenceMapper;
+import app.memovo.api.infrastructure.persistence.jpa.repository.JournalContentRow;
+import app.memovo.api.infrastructure.persistence.jpa.repository.JournalSummaryRow;
 import app.memovo.api.infrastructure.persistence.jpa.repository.SpringDataJournalRepository;
+import app.memovo.api.infrastructure.persistence.partition.JournalPartitionPruning;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@ConditionalOnProperty(name = "journals.sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class JournalJpaAdapter implements JournalRepository {
 
+    private static final int EXPORT_REHYDRATE_BATCH = 500;
+    private static final String[] RETURNED_COLUMNS =
+        {"entry_id", "user_id", "title", "content", "content_compressed", "created_at"};
+    // Sorts before every other id, so a cursor (t, NIL_ID) continues strictly before t
+    private static final UUID NIL_ID = new UUID(0, 0);
+
     private final SpringDataJournalRepository springRepository;
     private final app.memovo.api.infrastructure.persistence.jpa.repository.SpringDataUserRepository userRepository;
     private final JournalPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final JournalArchiveStore archive;
+    private final JournalContentCodec codec;
+    private final JournalPartitionPruning pruning;
+    private final int batchSize;
+    private final int deleteChunkSize;
+    private final int deleteTimeoutSeconds;
 
     public JournalJpaAdapter(SpringDataJournalRepository springRepository, 
                              app.memovo.api.infrastructure.persistence.jpa.repository.SpringDataUserRepository userRepository,
-                             JournalPersistenceMapper mapper) {
+                             JournalPersistenceMapper mapper,
+                             EntityManager entityManager,
+                             JournalArchiveStore archive,
+                             JournalContentCodec codec,
+                             JournalPartitionPruning pruning,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                             @Value("${journals.bulk-delete.chunk-size:1000}") int deleteChunkSize,
+                             @Value("${journals.bulk-delete.statement-timeout:PT5S}") Duration deleteTimeout) {
         this.springRepository = springRepository;
         this.userRepository = userRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.archive = archive;
+        this.codec = codec;
+        this.pruning = pruning;
+        this.batchSize = Math.max(1, batchSize);
+        this.deleteChunkSize = Math.max(1, deleteChunkSize);
+        this.deleteTimeoutSeconds = PersistenceSupport.queryTimeoutSeconds(deleteTimeout);
     }
 
     @Override
@@ -32,28 +89,307 @@ public class JournalJpaAdapter implements JournalRepository {
             entity.setUser(userRepository.getReferenceById(journal.getUserId()));
         }
         JournalJpaEntity savedEntity = springRepository.save(entity);
+        // Content written back over a stub makes the journal hot again; the archiver moves it anew later
+        if (journal.getContent() != null && savedEntity.getCreatedAt() != null) {
+            archive.discard(savedEntity.getId(), savedEntity.getCreatedAt());
+        }
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public Journal insert(Journal journal) {
+        JournalJpaEntity entity = mapper.toEntity(journal);
+        entity.setUser(userRepository.getReferenceById(journal.getUserId()));
+        // persist() rather than save(): save() merges assigned ids, which costs a SELECT first
+        entityManager.persist(entity);
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    @Transactional
+    public List<Journal> insertAll(List<Journal> journals) {
+        List<Journal> saved = new ArrayList<>(journals.size());
+        for (Journal journal : journals) {
+            JournalJpaEntity entity = mapper.toEntity(journal);
+            // A reference proxy avoids a SELECT per owner
+            entity.setUser(userRepository.getReferenceById(journal.getUserId()));
+            // persist() rather than save(): save() merges assigned ids, which costs a SELECT per row
+            entityManager.persist(entity);
+            saved.add(mapper.toDomain(entity));
+
+            if (saved.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Journal> patch(String id, String userId, Journal changes) {
+        Optional<UUID> entryId = PersistenceSupport.parseId(id);
+        if (entryId.isEmpty() || userId == null) {
+            return Optional.empty();
+        }
+        List<String> assignments = new ArrayList<>(4);
+        List<Object> values = new ArrayList<>(4);
+        if (changes.getTitle() != null) {
+            assignments.add("title = ?");
+            values.add(changes.getTitle());
+        }
+        if (changes.getContent() != null) {
+            byte[] compressed = codec.compress(changes.getContent());
+            if (compressed != null) {
+                assignments.add("content = null, content_compressed = ?");
+                values.add(compressed);
+            } else {
+                assignments.add("content = ?, content_compressed = null");
+                values.add(changes.getContent());
+            }
+        }
+        if (assignments.isEmpty()) {
+            return findById(id).filter(journal -> userId.equals(journal.getUserId()));
+        }
+        values.add(entryId.get());
+        values.add(userId);
+
+        String sql = "update journals set " + String.join(", ", assignments) + " where entry_id = ? and user_id = ?";
+
+        // Plain JDBC on the session's connection: requesting the columns back makes the driver
+        // return the new row with the UPDATE itself (RETURNING on Postgres), so there is no
+        // SELECT before or after. Managed copies of this journal are not refreshed.
+        entityManager.flush();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, RETURNED_COLUMNS)) {
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(i + 1, values.get(i));
+                }
+                if (statement.executeUpdate() == 0) {
+                    return Optional.<Journal>empty();
+                }
+                try (ResultSet row = statement.getGeneratedKeys()) {
+                    if (!row.next()) {
+                        return Optional.<Journal>empty();
+                    }
+                    LocalDateTime createdAt = row.getObject("created_at", LocalDateTime.class);
+                    if (changes.getContent() != null) {
+                        archive.discard(entryId.get(), createdAt);
+                    }
+                    return Optional.of(archive.rehydrate(mapper.toDomain(new JournalContentRow(
+                        row.getString("entry_id"),
+                        row.getString("user_id"),
+                        row.getString("title"),
+                        row.getString("content"),
+                        row.getBytes("content_compressed"),
+                        createdAt))));
+                }
+            }
+        });
+    }
+
     @Override
     public Optional<Journal> findById(String id) {
-        return springRepository.findById(id).map(mapper::toDomain);
+        return PersistenceSupport.parseId(id)
+            .flatMap(entryId -> pruning.createdAtRange(entryId)
+                .flatMap(range -> springRepository.findByIdCreatedBetween(entryId, range.from(), range.to()))
+                .or(() -> springRepository.findById(entryId)))
+            .map(mapper::toDomain)
+            .map(archive::rehydrate);
     }
 
     @Override
     public void deleteById(String id) {
-        springRepository.deleteById(id);
+        PersistenceSupport.parseId(id).ifPresent(springRepository::deleteById);
+    }
+
+    @Override
+    public Optional<Journal> findByIdForUser(String id, String userId) {
+        return PersistenceSupport.parseId(id)
+            .flatMap(entryId -> pruning.createdAtRange(entryId)
+                .flatMap(range -> springRepository.findByIdForUserCreatedBetween(
+                    entryId, userId, range.from(), range.to()))
+                .or(() -> springRepository.findByIdForUser(entryId, userId)))
+            .map(mapper::toDomain)
+            .map(journal -> userId.equals(journal.getUserId()) ? archive.rehydrate(journal) : journal);
+    }
+
+    @Override
+    public List<Journal> findAllByIds(Collection<String> ids, String userId) {
+        List<UUID> entryIds = PersistenceSupport.parseIds(ids);
+        if (entryIds.isEmpty()) {
+            return List.of();
+        }
+        return archive.rehydrate(springRepository.findAllByIdsForUser(entryIds, userId).stream()
+            .map(mapper::toDomain)
+            .toList());
+    }
+
+    @Override
+    @Transactional
+    public int deleteByIdAndUserId(String id, String userId) {
+        return PersistenceSupport.parseId(id)
+            .map(entryId -> springRepository.deleteByIdAndUserId(entryId, userId))
+            .orElse(0);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIdsAndUserId(Collection<String> ids, String userId) {
+        List<UUID> entryIds = PersistenceSupport.parseIds(ids);
+
+        Query chunk = entityManager.createQuery(
+            "delete from JournalJpaEntity j where j.user.id = :userId and j.id in :ids");
+        int deleted = 0;
+        for (int start = 0; start < entryIds.size(); start += deleteChunkSize) {
+            chunk.setParameter("userId", userId)
+                .setParameter("ids", entryIds.subList(start, Math.min(start + deleteChunkSize, entryIds.size())));
+            deleted += executeWithinBudget(chunk);
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByUserIdAndCreatedAtBetween(String userId, LocalDateTime from, LocalDateTime to) {
+        // JPQL has no LIMIT on DELETE; the subquery walks idx_journals_user_created_entry
+        Query chunk = entityManager.createNativeQuery("""
+                delete from journals
+                where entry_id in (
+                    select entry_id from journals
+                    where user_id = :userId and created_at >= :from and created_at < :to
+                    limit :limit)
+                """)
+            .setParameter("userId", userId)
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .setParameter("limit", deleteChunkSize);
+
+        int deleted = 0;
+        int last;
+        do {
+            last = executeWithinBudget(chunk);
+            deleted += last;
+        } while (last == deleteChunkSize);
+        return deleted;
+    }
+
+    // A chunk that overruns the budget aborts the statement and rolls the whole delete back
+    private int executeWithinBudget(Query chunk) {
+        try {
+            return chunk.setHint(HibernateHints.HINT_TIMEOUT, deleteTimeoutSeconds).executeUpdate();
+        } catch (RuntimeException e) {
+            throw PersistenceSupport.deleteFailure(e, deleteTimeoutSeconds);
+        }
     }
 
     @Override
     public boolean existsById(String id) {
-        return springRepository.existsById(id);
+        return PersistenceSupport.parseId(id).map(springRepository::existsById).orElse(false);
+    }
+
+    @Override
+    public long countByUserId(String userId) {
+        return springRepository.countByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteChunkByUserId(String userId, int limit) {
+        return springRepository.deleteChunkByUserId(userId, limit);
     }
 
     @Override
     public List<Journal> findByUserId(String userId) {
-        return springRepository.findByUserId(userId).stream()
+        return archive.rehydrate(springRepository.findByUserId(userId).stream()
             .map(mapper::toDomain)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Journal> findByUserIdAndCreatedAtBetween(String userId, LocalDateTime from, LocalDateTime to) {
+        return archive.rehydrate(springRepository.findInRange(userId, from, to).stream()
+            .map(mapper::toDomain)
+            .toList());
+    }
+
+    @Override
+    public List<JournalDayCount> countByUserIdPerDay(String userId, LocalDateTime from, LocalDateTime to) {
+        return springRepository.countPerDay(userId, from, to);
+    }
+
+    @Override
+    public List<Journal> findPageByUserId(String userId, JournalCursor after, int limit) {
+        List<JournalJpaEntity> entities = after == null
+            ? pruning.recentSince().map(since -> firstPageSince(userId, since, limit))
+                .orElseGet(() -> springRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit)))
+            : springRepository.findPageAfter(userId, after.createdAt(), UUID.fromString(after.id()), Limit.of(limit));
+        return archive.rehydrate(entities.stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<JournalSummary> findSummaryPageByUserId(String userId, JournalCursor after, int limit, int snippetLength) {
+        List<JournalSummaryRow> rows = after == null
+            ? pruning.recentSince().map(since -> firstSummariesSince(userId, since, limit, snippetLength))
+                .orElseGet(() -> springRepository.findSummaries(userId, snippetLength, Limit.of(limit)))
+            : springRepository.findSummariesAfter(userId, after.createdAt(), UUID.fromString(after.id()), snippetLength,
+                Limit.of(limit));
+        return archive.rehydrateSnippets(rows.stream()
+            .map(row -> mapper.toDomain(row, snippetLength))
+            .toList(), snippetLength);
+    }
+
+    // The newest months first; only a user with fewer entries there reads further back
+    private List<JournalJpaEntity> firstPageSince(String userId, LocalDateTime since, int limit) {
+        List<JournalJpaEntity> recent = springRepository
+            .findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDescIdDesc(userId, since, Limit.of(limit));
+        if (recent.size() == limit) {
+            return recent;
+        }
+        List<JournalJpaEntity> page = new ArrayList<>(recent);
+        page.addAll(springRepository.findPageAfter(userId, since, NIL_ID, Limit.of(limit - recent.size())));
+        return page;
+    }
+
+    private List<JournalSummaryRow> firstSummariesSince(String userId, LocalDateTime since, int limit,
+                                                        int snippetLength) {
+        List<JournalSummaryRow> recent = springRepository.findSummariesSince(userId, since, snippetLength,
+            Limit.of(limit));
+        if (recent.size() == limit) {
+            return recent;
+        }
+        List<JournalSummaryRow> page = new ArrayList<>(recent);
+        page.addAll(springRepository.findSummariesAfter(userId, since, NIL_ID, snippetLength,
+            Limit.of(limit - recent.size())));
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachByUserId(String userId, Consumer<Journal> action) {
+        long count = 0;
+        // Journals go out in small batches so archived ones are rehydrated a batch at a time
+        List<Journal> batch = new ArrayList<>(EXPORT_REHYDRATE_BATCH);
+        try (Stream<JournalJpaEntity> entities = springRepository.streamByUserId(userId)) {
+            Iterator<JournalJpaEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                JournalJpaEntity entity = iterator.next();
+                batch.add(mapper.toDomain(entity));
+                // Keep the persistence context flat so memory does not grow with the row count
+                entityManager.detach(entity);
+                count++;
+                if (batch.size() == EXPORT_REHYDRATE_BATCH) {
+                    archive.rehydrate(batch).forEach(action);
+                    batch.clear();
+                }
+            }
+        }
+        archive.rehydrate(batch).forEach(action);
+        return count;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package app.memovo.api.infrastructure.persistence.jpa.adapter;
+
+import app.memovo.api.domain.port.JournalJsonRepository;
+import app.memovo.api.infrastructure.persistence.archive.JournalArchiveStore;
+import app.memovo.api.infrastructure.persistence.compression.JournalContentCodec;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Postgres builds each journal's JSON object and the driver hands back its
+ * UTF-8 bytes, which go to the output unchanged: no entities, no domain or
+ * response objects, no re-serialisation. Rows come one object each through a
+ * forward-only cursor rather than as one json_agg value, so neither side has
+ * to hold the whole array.
+ *
+ * Archived journals come with their compressed content, and so do journals
+ * stored compressed; it is decompressed and spliced into the row's JSON here.
+ *
+ * Unavailable when journals are sharded, as they are then not in this database.
+ */
+@Component
+public class PostgresJournalJsonAdapter implements JournalJsonRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    // Same field order and formatting as JournalResponse through Jackson: to_json escapes
+    // the strings and createdAt is ISO-8601 with trailing fraction zeros dropped
+    private static final String SQL = """
+            select '{"id":' || to_json(entry_id::text)::text
+                || ',"userId":' || to_json(user_id)::text
+                || ',"title":' || to_json(title)::text
+                || ',"content":' || coalesce(to_json(content)::text, 'null')
+                || ',"createdAt":"'
+                || rtrim(rtrim(to_char(created_at, 'YYYY-MM-DD"T"HH24:MI:SS.US'), '0'), '.') || '"}',
+                case when content is null and content_compressed is null then (
+                    select a.content from journal_archive a
+                    where a.entry_id = journals.entry_id and a.created_at = journals.created_at) end,
+                content_compressed
+            from journals
+            where user_id = ?
+            order by created_at desc, entry_id desc
+            """;
+
+    // Where a stub's "content":null sits: right before createdAt, which is never null
+    private static final byte[] NULL_CONTENT = ",\"content\":null,\"createdAt\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final int NULL_OFFSET = ",\"content\":".length();
+
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private final boolean available;
+
+    public PostgresJournalJsonAdapter(EntityManager entityManager,
+                                      EntityManagerFactory entityManagerFactory,
+                                      JsonMapper jsonMapper,
+                                      @Value("${journals.json-passthrough.enabled:false}") boolean enabled,
+                                      @Value("${journals.sharding.enabled:false}") boolean sharded) {
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+        this.available = enabled && !sharded && entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long writeByUserId(String userId, OutputStream out) throws IOException {
+        if (!available) {
+            throw new IllegalStateException("JSON pass-through needs PostgreSQL");
+        }
+        try {
+            return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(SQL)) {
+                    // Only honoured inside a transaction; otherwise the driver buffers every row
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setString(1, userId);
+                    try (ResultSet rows = statement.executeQuery()) {
+                        return writeArray(rows, out);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeArray(ResultSet rows, OutputStream out) throws java.sql.SQLException {
+        try {
+            long count = 0;
+            out.write('[');
+            while (rows.next()) {
+                if (count++ > 0) {
+                    out.write(',');
+                }
+                // getBytes on a text column returns the raw UTF-8 from the wire, no String decode
+                byte[] json = rows.getBytes(1);
+                upperCaseUnicodeEscapes(json);
+                byte[] archived = rows.getBytes(2);
+                byte[] compressed = rows.getBytes(3);
+                if (archived != null) {
+                    out.write(withContent(json, jsonMapper.writeValueAsBytes(JournalArchiveStore.decompress(archived))));
+                } else if (compressed != null) {
+                    out.write(withContent(json, jsonMapper.writeValueAsBytes(JournalContentCodec.decode(compressed))));
+                } else {
+                    out.write(json);
+                }
+            }
+            out.write(']');
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replaces the null content of a journal's JSON object with
+     * {@code content}, an encoded JSON string. Inside string values every quote
+     * is escaped, so the last {@code ,"content":null,"createdAt":"} is always
+     * the field itself.
+     */
+    static byte[] withContent(byte[] json, byte[] content) {
+        int at = lastIndexOf(json, NULL_CONTENT);
+        if (at < 0) {
+            return json;
+        }
+        int nullStart = at + NULL_OFFSET;
+        byte[] result = new byte[json.length - "null".length() + content.length];
+        System.arraycopy(json, 0, result, 0, nullStart);
+        System.arraycopy(content, 0, result, nullStart, content.length);
+        System.arraycopy(json, nullStart + "null".length(), result, nullStart + content.length,
+            json.length - nullStart - "null".length());
+        return result;
+    }
+
+    private static int lastIndexOf(byte[] bytes, byte[] pattern) {
+        for (int i = bytes.length - pattern.length; i >= 0; i--) {
+            int matched = 0;
+            while (matched < pattern.length && bytes[i + matched] == pattern[matched]) {
+                matched++;
+            }
+            if (matched == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Postgres writes control characters as {@code \u001f}, Jackson as
+     * {@code \u001F}; rewrites the hex digits of every {@code \\u} escape in
+     * place so the bytes match.
+     */
+    static void upperCaseUnicodeEscapes(byte[] json) {
+        for (int i = 0; i < json.length - 1; i++) {
+            if (json[i] != '\\') {
+                continue;
+            }
+            // Skip the escaped character so an escaped backslash is never taken for an escape
+            i++;
+            if (json[i] == 'u') {
+                for (int hex = i + 1; hex <= i + 4 && hex < json.length; hex++) {
+                    if (json[hex] >= 'a' && json[hex] <= 'f') {
+                        json[hex] -= 'a' - 'A';
+                    }
+                }
+                i += 4;
+            }
+        }
+    }
+}
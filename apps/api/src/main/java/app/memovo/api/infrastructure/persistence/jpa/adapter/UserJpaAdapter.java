@@ -2,10 +2,12 @@ package app.memovo.api.infrastructure.persistence.jpa.adapter;
 
 import app.memovo.api.domain.model.User;
 import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.exception.UserAlreadyExistsException;
 import app.memovo.api.infrastructure.persistence.jpa.entity.UserJpaEntity;
 import app.memovo.api.infrastructure.persistence.jpa.mapper.UserPersistenceMapper;
 import app.memovo.api.infrastructure.persistence.jpa.repository.SpringDataUserRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Component
@@ -26,13 +28,35 @@ public class UserJpaAdapter implements UserRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public User insert(User user) {
+        // A single INSERT rather than save(), which merges assigned ids and costs a SELECT first
+        int inserted = springRepository.insertIfAbsent(user.getId(), user.getFirstName(), user.getLastName(),
+            user.getEmail(), user.getCreatedAt(), user.getUpdatedAt());
+        if (inserted == 1) {
+            return user;
+        }
+        // A redelivered create finds its own row; otherwise the email belongs to another user
+        return springRepository.findById(user.getId())
+            .map(mapper::toDomain)
+            .orElseThrow(() -> new UserAlreadyExistsException(
+                "Another user already has the email of user " + user.getId()));
+    }
+
     @Override
     public Optional<User> findById(String id) {
         return springRepository.findById(id).map(mapper::toDomain);
     }
 
     @Override
+    @Transactional
     public void deleteById(String id) {
-        springRepository.deleteById(id);
+        springRepository.deleteRowById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return springRepository.existsById(id);
     }
 }
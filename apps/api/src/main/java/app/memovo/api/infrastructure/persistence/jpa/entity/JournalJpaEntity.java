@@ -4,7 +4,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
+import java.util.UUID;
+
+import app.memovo.api.infrastructure.persistence.compression.JournalContentCodec;
 
 @Entity
 @Table(name = "journals")
@@ -12,10 +16,11 @@ public class JournalJpaEntity {
 
     @Id
     @Column(name = "entry_id") 
-    private String id;
+    private UUID id;
 
     @jakarta.persistence.ManyToOne(fetch = jakarta.persistence.FetchType.LAZY)
     @jakarta.persistence.JoinColumn(name = "user_id", nullable = false)
+    @org.hibernate.annotations.OnDelete(action = org.hibernate.annotations.OnDeleteAction.CASCADE)
     private UserJpaEntity user;
 
     @Column(nullable = false)
@@ -24,14 +29,22 @@ public class JournalJpaEntity {
     @Column(columnDefinition = "TEXT") 
     private String content;
 
+    // Set instead of content when the content is stored compressed
+    @Column(name = "content_compressed")
+    private byte[] contentCompressed;
+
+    // Decoded contentCompressed, filled on the first getContent()
+    @Transient
+    private String decompressed;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     public JournalJpaEntity() {}
 
     // Getters and Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
 
     public UserJpaEntity getUser() { return user; }
     public void setUser(UserJpaEntity user) { this.user = user; }
@@ -39,8 +52,33 @@ public class JournalJpaEntity {
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
-    public String getContent() { return content; }
-    public void setContent(String content) { this.content = content; }
+    public String getContent() {
+        if (content == null && contentCompressed != null) {
+            if (decompressed == null) {
+                decompressed = JournalContentCodec.decode(contentCompressed);
+            }
+            return decompressed;
+        }
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.contentCompressed = null;
+        this.decompressed = null;
+    }
+
+    public byte[] getContentCompressed() { return contentCompressed; }
+
+    /**
+     * Stores {@code content} as {@code compressed}, its encoding by
+     * {@link JournalContentCodec}, and leaves the TEXT column null.
+     */
+    public void setCompressedContent(String content, byte[] compressed) {
+        this.content = null;
+        this.contentCompressed = compressed;
+        this.decompressed = content;
+    }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
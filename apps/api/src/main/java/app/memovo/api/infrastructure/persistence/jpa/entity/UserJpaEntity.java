@@ -28,7 +28,8 @@ public class UserJpaEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
-    @jakarta.persistence.OneToMany(mappedBy = "user", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true)
+    // Deletes cascade in the database (V4), never through this collection
+    @jakarta.persistence.OneToMany(mappedBy = "user")
     private java.util.List<JournalJpaEntity> journals = new java.util.ArrayList<>();
 
     public UserJpaEntity() {}
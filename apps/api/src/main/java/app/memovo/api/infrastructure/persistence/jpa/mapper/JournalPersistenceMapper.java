@@ -1,32 +1,67 @@
 package app.memovo.api.infrastructure.persistence.jpa.mapper;
 
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.infrastructure.persistence.compression.CompressedJournal;
+import app.memovo.api.infrastructure.persistence.compression.JournalContentCodec;
 import app.memovo.api.infrastructure.persistence.jpa.entity.JournalJpaEntity;
+import app.memovo.api.infrastructure.persistence.jpa.repository.JournalContentRow;
+import app.memovo.api.infrastructure.persistence.jpa.repository.JournalSummaryRow;
 
 @Component
 public class JournalPersistenceMapper {
 
+    private final JournalContentCodec codec;
+
+    public JournalPersistenceMapper(JournalContentCodec codec) {
+        this.codec = codec;
+    }
+
+    // Compressed content is inflated only if the journal's content is read
     public Journal toDomain(JournalJpaEntity entity) {
         if (entity == null) return null;
-        return new Journal(
-            entity.getId(),
-            entity.getUser() != null ? entity.getUser().getId() : null,
-            entity.getTitle(),
-            entity.getContent(),
-            entity.getCreatedAt()
-        );
+        String id = entity.getId() != null ? entity.getId().toString() : null;
+        String userId = entity.getUser() != null ? entity.getUser().getId() : null;
+        if (entity.getContentCompressed() != null) {
+            // An entity keeps the content it was persisted with, so a journal just inserted is not inflated
+            return new CompressedJournal(id, userId, entity.getTitle(), entity::getContent, entity.getCreatedAt());
+        }
+        return new Journal(id, userId, entity.getTitle(), entity.getContent(), entity.getCreatedAt());
+    }
+
+    public Journal toDomain(JournalContentRow row) {
+        if (row.contentCompressed() != null) {
+            byte[] compressed = row.contentCompressed();
+            return new CompressedJournal(row.id(), row.userId(), row.title(),
+                () -> JournalContentCodec.decode(compressed), row.createdAt());
+        }
+        return new Journal(row.id(), row.userId(), row.title(), row.content(), row.createdAt());
+    }
+
+    public JournalSummary toDomain(JournalSummaryRow row, int snippetLength) {
+        String snippet = row.contentCompressed() != null
+            ? JournalContentCodec.decodePrefix(row.contentCompressed(), snippetLength)
+            : row.snippet();
+        return new JournalSummary(row.id(), row.userId(), row.title(), row.createdAt(), snippet);
     }
 
     public JournalJpaEntity toEntity(Journal domain) {
         if (domain == null) return null;
         JournalJpaEntity entity = new JournalJpaEntity();
-        entity.setId(domain.getId());
+        entity.setId(domain.getId() != null ? UUID.fromString(domain.getId()) : null);
         // User reference is set by the adapter
         entity.setTitle(domain.getTitle());
-        entity.setContent(domain.getContent());
+        byte[] compressed = codec.compress(domain.getContent());
+        if (compressed != null) {
+            entity.setCompressedContent(domain.getContent(), compressed);
+        } else {
+            entity.setContent(domain.getContent());
+        }
         entity.setCreatedAt(domain.getCreatedAt());
         return entity;
     }
-}
\ No newline at end of file
+}
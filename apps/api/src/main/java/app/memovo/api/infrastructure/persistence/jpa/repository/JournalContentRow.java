@@ -0,0 +1,11 @@
+package app.memovo.api.infrastructure.persistence.jpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A journal as selected by a projection query, with its content in whichever
+ * of the two content columns holds it.
+ */
+public record JournalContentRow(String id, String userId, String title, String content, byte[] contentCompressed,
+                                LocalDateTime createdAt) {
+}
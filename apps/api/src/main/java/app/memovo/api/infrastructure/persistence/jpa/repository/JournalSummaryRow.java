@@ -0,0 +1,11 @@
+package app.memovo.api.infrastructure.persistence.jpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A journal summary as selected by a projection query. Compressed content
+ * cannot be cut in SQL, so its snippet comes as the whole encoded content.
+ */
+public record JournalSummaryRow(String id, String userId, String title, LocalDateTime createdAt, String snippet,
+                                byte[] contentCompressed) {
+}
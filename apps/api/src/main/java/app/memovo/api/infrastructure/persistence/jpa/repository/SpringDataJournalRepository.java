@@ -1,11 +1,175 @@
 package app.memovo.api.infrastructure.persistence.jpa.repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import app.memovo.api.domain.model.JournalDayCount;
 import app.memovo.api.infrastructure.persistence.jpa.entity.JournalJpaEntity;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface SpringDataJournalRepository extends JpaRepository<JournalJpaEntity, String> {
+public interface SpringDataJournalRepository extends JpaRepository<JournalJpaEntity, UUID> {
     java.util.List<JournalJpaEntity> findByUserId(String userId);
+
+    // Ownership is decided in the same primary-key lookup; other owners' text is never read
+    @Query("""
+            select new app.memovo.api.infrastructure.persistence.jpa.repository.JournalContentRow(
+                cast(j.id as String), j.user.id,
+                case when j.user.id = :userId then j.title end,
+                case when j.user.id = :userId then j.content end,
+                case when j.user.id = :userId then j.contentCompressed end,
+                j.createdAt)
+            from JournalJpaEntity j
+            where j.id = :id
+            """)
+    Optional<JournalContentRow> findByIdForUser(@Param("id") UUID id, @Param("userId") String userId);
+
+    // The lookups by id again, bounded by the creation time a UUIDv7 id carries
+    // (JournalPartitionPruning), so a partitioned journals table is probed in one or two months only
+    @Query("select j from JournalJpaEntity j where j.id = :id and j.createdAt >= :from and j.createdAt < :to")
+    Optional<JournalJpaEntity> findByIdCreatedBetween(@Param("id") UUID id,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    @Query("""
+            select new app.memovo.api.infrastructure.persistence.jpa.repository.JournalContentRow(
+                cast(j.id as String), j.user.id,
+                case when j.user.id = :userId then j.title end,
+                case when j.user.id = :userId then j.content end,
+                case when j.user.id = :userId then j.contentCompressed end,
+                j.createdAt)
+            from JournalJpaEntity j
+            where j.id = :id and j.createdAt >= :from and j.createdAt < :to
+            """)
+    Optional<JournalContentRow> findByIdForUserCreatedBetween(@Param("id") UUID id,
+                                                              @Param("userId") String userId,
+                                                              @Param("from") LocalDateTime from,
+                                                              @Param("to") LocalDateTime to);
+
+    @Query("select j from JournalJpaEntity j where j.user.id = :userId and j.id in :ids")
+    java.util.List<JournalJpaEntity> findAllByIdsForUser(@Param("ids") java.util.Collection<UUID> ids,
+                                                         @Param("userId") String userId);
+
+    @Modifying
+    @Query("delete from JournalJpaEntity j where j.id = :id and j.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") String userId);
+
+    long countByUserId(String userId);
+
+    // Native because JPQL has no LIMIT on DELETE; the subquery walks idx_journals_user_created_entry
+    @Modifying
+    @Query(value = """
+            delete from journals
+            where entry_id in (select entry_id from journals where user_id = :userId limit :limit)
+            """, nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") String userId, @Param("limit") int limit);
+
+    java.util.List<JournalJpaEntity> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Limit limit);
+
+    // First page from the newest months only (JournalPartitionPruning); the rest follows as a keyset page
+    java.util.List<JournalJpaEntity> findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDescIdDesc(
+        String userId, LocalDateTime since, Limit limit);
+
+    // Keyset predicate on (createdAt, id) so deep pages cost the same as the first one.
+    // The redundant createdAt bound lets Postgres start the index scan at the cursor
+    // (idx_journals_user_created_entry) instead of filtering every newer row.
+    @Query("""
+            select j from JournalJpaEntity j
+            where j.user.id = :userId
+              and j.createdAt <= :createdAt
+              and (j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id))
+            order by j.createdAt desc, j.id desc
+            """)
+    java.util.List<JournalJpaEntity> findPageAfter(@Param("userId") String userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") UUID id,
+                                                   Limit limit);
+
+    @Query("""
+            select j from JournalJpaEntity j
+            where j.user.id = :userId and j.createdAt >= :from and j.createdAt < :to
+            order by j.createdAt desc, j.id desc
+            """)
+    java.util.List<JournalJpaEntity> findInRange(@Param("userId") String userId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    // Only touches (user_id, created_at), so Postgres can answer it from
+    // idx_journals_user_created_entry without reading the table rows
+    @Query("""
+            select new app.memovo.api.domain.model.JournalDayCount(cast(j.createdAt as LocalDate), count(*))
+            from JournalJpaEntity j
+            where j.user.id = :userId and j.createdAt >= :from and j.createdAt < :to
+            group by cast(j.createdAt as LocalDate)
+            order by cast(j.createdAt as LocalDate)
+            """)
+    java.util.List<JournalDayCount> countPerDay(@Param("userId") String userId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // Summary projections select only the listed columns; the CASE keeps content
+    // (and its TOAST chunks) untouched unless a snippet is asked for. A row has at
+    // most one of the two content columns set, so only one of them is ever read
+    @Query("""
+            select new app.memovo.api.infrastructure.persistence.jpa.repository.JournalSummaryRow(
+                cast(j.id as String), j.user.id, j.title, j.createdAt,
+                case when :snippetLength > 0 then substring(j.content, 1, :snippetLength) end,
+                case when :snippetLength > 0 then j.contentCompressed end)
+            from JournalJpaEntity j
+            where j.user.id = :userId
+            order by j.createdAt desc, j.id desc
+            """)
+    java.util.List<JournalSummaryRow> findSummaries(@Param("userId") String userId,
+                                                 @Param("snippetLength") int snippetLength,
+                                                 Limit limit);
+
+    @Query("""
+            select new app.memovo.api.infrastructure.persistence.jpa.repository.JournalSummaryRow(
+                cast(j.id as String), j.user.id, j.title, j.createdAt,
+                case when :snippetLength > 0 then substring(j.content, 1, :snippetLength) end,
+                case when :snippetLength > 0 then j.contentCompressed end)
+            from JournalJpaEntity j
+            where j.user.id = :userId and j.createdAt >= :since
+            order by j.createdAt desc, j.id desc
+            """)
+    java.util.List<JournalSummaryRow> findSummariesSince(@Param("userId") String userId,
+                                                      @Param("since") LocalDateTime since,
+                                                      @Param("snippetLength") int snippetLength,
+                                                      Limit limit);
+
+    @Query("""
+            select new app.memovo.api.infrastructure.persistence.jpa.repository.JournalSummaryRow(
+                cast(j.id as String), j.user.id, j.title, j.createdAt,
+                case when :snippetLength > 0 then substring(j.content, 1, :snippetLength) end,
+                case when :snippetLength > 0 then j.contentCompressed end)
+            from JournalJpaEntity j
+            where j.user.id = :userId
+              and j.createdAt <= :createdAt
+              and (j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id))
+            order by j.createdAt desc, j.id desc
+            """)
+    java.util.List<JournalSummaryRow> findSummariesAfter(@Param("userId") String userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id,
+                                                      @Param("snippetLength") int snippetLength,
+                                                      Limit limit);
+
+    // Forward-only cursor for exports; must be consumed inside a (read-only) transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select j from JournalJpaEntity j where j.user.id = :userId order by j.createdAt desc, j.id desc")
+    Stream<JournalJpaEntity> streamByUserId(@Param("userId") String userId);
 }
\ No newline at end of file
@@ -2,8 +2,27 @@ package app.memovo.api.infrastructure.persistence.jpa.repository;
 
 import app.memovo.api.infrastructure.persistence.jpa.entity.UserJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, String> {
+
+    // Bulk delete: unlike deleteById it neither loads the user nor its journals
+    @Modifying
+    @Query("delete from UserJpaEntity u where u.id = :id")
+    int deleteRowById(@Param("id") String id);
+
+    // A taken id or email skips the row instead of failing the statement, and the transaction with it
+    @Modifying
+    @Query(value = "insert into users (id, first_name, last_name, email, created_at, updated_at) "
+        + "values (:id, :firstName, :lastName, :email, :createdAt, :updatedAt) on conflict do nothing",
+        nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("firstName") String firstName,
+                       @Param("lastName") String lastName, @Param("email") String email,
+                       @Param("createdAt") LocalDateTime createdAt, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,187 @@
+package app.memovo.api.infrastructure.persistence.partition;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the monthly partitions of journals (PostgreSQL, V5 and V8) and of its
+ * cold tier journal_archive (V6) in shape: creates the coming months ahead of time
+ * and, when a retention is configured, detaches and drops the months that fell
+ * out of it, from both tables, together with their ids in journal_entry_ids
+ *
+ * Runs once the application is ready and then daily. Every step is idempotent
+ * and failures only skip the month concerned, so several instances may run it
+ * concurrently. Does nothing on other databases or when journals is a plain table;
+ * the layout follows journals.partitions.enabled as it was when V8 ran, so a
+ * different setting now is only reported.
+ */
+@Component
+public class JournalPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalPartitionMaintenance.class);
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("journals_(\\d{4})_(\\d{2})");
+
+    // journal_archive references journals, so its months are created after and removed before
+    private static final List<String> TABLES = List.of("journals", "journal_archive");
+
+    private static final String LOCK_TIMEOUT = "5s";
+
+    private static final String IS_PARTITIONED =
+        "select exists (select 1 from pg_partitioned_table where partrelid = to_regclass('journals'))";
+    private static final String IS_ARCHIVE_PARTITION =
+        "select exists (select 1 from pg_inherits where inhrelid = to_regclass(?)"
+            + " and inhparent = to_regclass('journal_archive'))";
+    private static final String PARTITIONS =
+        "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid"
+            + " where i.inhparent = to_regclass('journals') order by c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactions;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+    private final Clock clock;
+
+    @Autowired
+    public JournalPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${journals.partitions.enabled:false}") boolean enabled,
+                                       @Value("${journals.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${journals.partitions.retention-months:0}") int retentionMonths,
+                                       @Value("${journals.partitions.drop-expired:true}") boolean dropExpired) {
+        // Same zone as the LocalDateTime.now() that stamps created_at
+        this(jdbcTemplate, new TransactionTemplate(transactionManager), enabled, monthsAhead, retentionMonths,
+            dropExpired, Clock.systemDefaultZone());
+    }
+
+    JournalPartitionMaintenance(JdbcTemplate jdbcTemplate, TransactionOperations transactions, boolean enabled,
+                                int monthsAhead, int retentionMonths, boolean dropExpired, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = dropExpired;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${journals.partitions.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        if (retentionMonths > 0) {
+            expiredPartitions(current.minusMonths(retentionMonths)).forEach(this::removeMonth);
+        }
+    }
+
+    /**
+     * Months of the journals partitions that only hold entries from before the given month
+     */
+    List<YearMonth> expiredPartitions(YearMonth oldestKept) {
+        List<YearMonth> expired = new ArrayList<>();
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS, String.class)) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+            if (matcher.matches()) {
+                YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                if (month.isBefore(oldestKept)) {
+                    expired.add(month);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private boolean isPartitioned() {
+        String database = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            return false;
+        }
+        boolean partitioned = Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED, Boolean.class));
+        if (partitioned && !enabled) {
+            log.warn("journals is partitioned but journals.partitions.enabled is not set; "
+                + "lookups by id and first pages read every month");
+        } else if (!partitioned && enabled) {
+            log.warn("journals.partitions.enabled is set but journals was not partitioned when migration V8 ran; "
+                + "it stays a plain table");
+        }
+        return partitioned;
+    }
+
+    private void createPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        for (String table : TABLES) {
+            try {
+                jdbcTemplate.execute("create table if not exists " + partitionName(table, month) + " partition of "
+                    + table + " for values from ('" + from + "') to ('" + from.plusMonths(1) + "')");
+            } catch (DataAccessException e) {
+                // e.g. the default partition already holds rows of that month; they have to be moved by hand
+                log.warn("Could not create {} partition for {}", table, month, e);
+            }
+        }
+    }
+
+    private void removeMonth(YearMonth month) {
+        String archivePartition = partitionName("journal_archive", month);
+        String partition = partitionName("journals", month);
+        try {
+            // One transaction, so a failed step leaves the month attached and it is retried next run
+            transactions.executeWithoutResult(status -> {
+                // Detaching locks the whole table; give up rather than queue every journal query behind it
+                jdbcTemplate.execute("set local lock_timeout = '" + LOCK_TIMEOUT + "'");
+                if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_ARCHIVE_PARTITION, Boolean.class,
+                        archivePartition))) {
+                    detach("journal_archive", archivePartition);
+                }
+                // The month's ids leave the registry with it, or they could never be used again
+                jdbcTemplate.execute("delete from journal_entry_ids r using " + partition + " p"
+                    + " where r.entry_id = p.entry_id");
+                detach("journals", partition);
+            });
+            log.info("{} journal partition {} past retention", dropExpired ? "Dropped" : "Detached", partition);
+        } catch (DataAccessException e) {
+            log.warn("Could not remove journal partition {}", partition, e);
+        }
+    }
+
+    private void detach(String table, String partition) {
+        jdbcTemplate.execute("alter table " + table + " detach partition " + partition);
+        if (dropExpired) {
+            jdbcTemplate.execute("drop table " + partition);
+        }
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_" + PARTITION_SUFFIX.format(month);
+    }
+}
@@ -0,0 +1,79 @@
+package app.memovo.api.infrastructure.persistence.partition;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * created_at bounds for the journal reads that have none of their own, so that
+ * with journals partitioned by month (journals.partitions.enabled) PostgreSQL
+ * only opens the months a read can hit instead of every partition
+ *
+ * Lookups by id get a window around the creation time a UUIDv7 id carries;
+ * first pages are read from the newest months before anything older. Without
+ * partitioning there is nothing to prune and every method returns empty, so
+ * reads run exactly as before.
+ */
+@Component
+public class JournalPartitionPruning {
+
+    // created_at is stamped with LocalDateTime.now() in the server's zone right after the id is
+    // generated; a day either side still holds if the zone has changed since
+    private static final Duration ID_SLACK = Duration.ofDays(1);
+    private static final int UUID_V7 = 7;
+
+    // Months a first page is read from before falling back to older ones
+    static final int RECENT_MONTHS = 2;
+
+    private final boolean enabled;
+    private final Clock clock;
+
+    @Autowired
+    public JournalPartitionPruning(@Value("${journals.partitions.enabled:false}") boolean enabled) {
+        // Same zone as the LocalDateTime.now() that stamps created_at
+        this(enabled, Clock.systemDefaultZone());
+    }
+
+    JournalPartitionPruning(boolean enabled, Clock clock) {
+        this.enabled = enabled;
+        this.clock = clock;
+    }
+
+    /**
+     * Range the journal with this id was created in, for time-ordered UUIDv7 ids.
+     * Older random ids carry no time, so they get none; callers then look the id
+     * up unbounded, as they also should when the bounded lookup finds nothing.
+     */
+    public Optional<CreatedAtRange> createdAtRange(UUID id) {
+        if (!enabled || id.version() != UUID_V7) {
+            return Optional.empty();
+        }
+        LocalDateTime created = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16), clock.getZone());
+        return Optional.of(new CreatedAtRange(created.minus(ID_SLACK), created.plus(ID_SLACK)));
+    }
+
+    /**
+     * Start of the newest months, which a first page is read from before the
+     * remaining rows (if any are needed) are read from before it.
+     */
+    public Optional<LocalDateTime> recentSince() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.now(clock).minusMonths(RECENT_MONTHS - 1).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * created_at &gt;= from and created_at &lt; to
+     */
+    public record CreatedAtRange(LocalDateTime from, LocalDateTime to) {}
+}
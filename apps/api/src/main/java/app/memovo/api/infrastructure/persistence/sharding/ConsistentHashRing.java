@@ -0,0 +1,80 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Consistent-hash ring mapping keys (user ids) to nodes (shards)
+ *
+ * Every node is placed on the ring at {@code virtualNodes} points derived from
+ * its name, and a key belongs to the first point at or after its own hash.
+ * Placement only depends on node names, not on their order or count, so adding
+ * a node moves roughly 1/N of the keys, all of them onto the new node.
+ *
+ * @param <T> node type
+ */
+public final class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+    private final List<T> nodes;
+
+    public ConsistentHashRing(Collection<T> nodes, Function<T, String> nameOf, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (T node : this.nodes) {
+            String name = nameOf.apply(node);
+            for (int i = 0; i < virtualNodes; i++) {
+                T previous = ring.put(hash(name + "#" + i), node);
+                if (previous != null && previous != node) {
+                    throw new IllegalArgumentException("Hash collision between nodes " + name + " and "
+                        + nameOf.apply(previous) + "; rename one of them");
+                }
+            }
+        }
+    }
+
+    /**
+     * The node owning {@code key}.
+     */
+    public T nodeFor(String key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(key));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    /**
+     * All nodes, in the order they were given.
+     */
+    public List<T> nodes() {
+        return nodes;
+    }
+
+    // First 8 bytes of MD5: stable across JVMs and releases, unlike String.hashCode()
+    private static long hash(String value) {
+        byte[] digest = md5().digest(value.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is a required JDK algorithm", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One journal shard: a named database with its own connection pool and
+ * transaction manager. Transactions never span shards.
+ */
+public final class JournalShard implements AutoCloseable {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate transactions;
+    private final TransactionTemplate readOnlyTransactions;
+
+    public JournalShard(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactions = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactions.setReadOnly(true);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public JdbcTemplate jdbc() {
+        return jdbc;
+    }
+
+    public NamedParameterJdbcTemplate namedJdbc() {
+        return namedJdbc;
+    }
+
+    /**
+     * Runs {@code work} in a read-write transaction on this shard.
+     */
+    public <T> T inTransaction(TransactionCallback<T> work) {
+        return transactions.execute(work);
+    }
+
+    /**
+     * Runs {@code work} in a read-only transaction on this shard; needed to
+     * stream rows through a Postgres cursor.
+     */
+    public <T> T inReadOnlyTransaction(TransactionCallback<T> work) {
+        return readOnlyTransactions.execute(work);
+    }
+
+    /**
+     * Closes the shard's connection pool, if it has one.
+     */
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,95 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Offline tool that moves every user's journals to the shard the current hash
+ * ring assigns them to, e.g. after shards were added to journals.sharding.shards.
+ * Run it with the API stopped, as a one-off process:
+ *
+ * <pre>
+ * java -jar api.jar --spring.main.web-application-type=none --journals.sharding.rebalance=true
+ * </pre>
+ *
+ * Rows move in batches: each batch is written to the target shard (replacing
+ * copies left by an interrupted run) and then deleted from the source, each
+ * step in its own transaction. A run that stops part-way can simply be
+ * started again.
+ */
+public class JournalShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalShardRebalancer.class);
+
+    private static final String COLUMNS = "entry_id, user_id, title, content, created_at";
+
+    private final ShardedJournalRepository repository;
+    private final int batchSize;
+
+    public JournalShardRebalancer(ShardedJournalRepository repository, int batchSize) {
+        this.repository = repository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Moves misplaced journals on all shards.
+     */
+    public Result rebalance() {
+        long users = 0;
+        long journals = 0;
+        for (JournalShard source : repository.shards()) {
+            List<String> owners = source.jdbc().queryForList("select distinct user_id from journals", String.class);
+            for (String userId : owners) {
+                JournalShard target = repository.shardFor(userId);
+                if (target != source) {
+                    journals += moveUser(userId, source, target);
+                    users++;
+                }
+            }
+        }
+        log.info("Rebalance finished: moved {} journals of {} users", journals, users);
+        return new Result(users, journals);
+    }
+
+    private long moveUser(String userId, JournalShard source, JournalShard target) {
+        long moved = 0;
+        while (true) {
+            List<Object[]> rows = source.jdbc().query(
+                "select " + COLUMNS + " from journals where user_id = ? order by entry_id limit ?",
+                (rs, rowNum) -> new Object[] {
+                    UUID.fromString(rs.getString("entry_id")),
+                    rs.getString("user_id"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getTimestamp("created_at")},
+                userId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object> ids = rows.stream().map(row -> row[0]).toList();
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+
+            target.inTransaction(status -> {
+                target.jdbc().update("delete from journals where entry_id in (" + placeholders + ")", ids.toArray());
+                return target.jdbc().batchUpdate(
+                    "insert into journals (" + COLUMNS + ") values (?, ?, ?, ?, ?)", rows);
+            });
+            source.inTransaction(status ->
+                source.jdbc().update("delete from journals where entry_id in (" + placeholders + ")", ids.toArray()));
+            moved += rows.size();
+        }
+        log.info("Moved {} journals of user {} from shard {} to {}", moved, userId, source, target);
+        return moved;
+    }
+
+    /**
+     * @param usersMoved    users whose journals changed shard
+     * @param journalsMoved journals copied to their new shard and removed from the old one
+     */
+    public record Result(long usersMoved, long journalsMoved) {
+    }
+}
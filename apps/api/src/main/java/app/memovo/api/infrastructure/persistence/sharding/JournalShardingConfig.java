@@ -0,0 +1,96 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.infrastructure.persistence.datasource.ConnectionHoldTimeDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Stores journals on the shards listed under journals.sharding.shards instead
+ * of the main database (users stay there). Every shard gets its own Hikari
+ * pool ("journals-&lt;name&gt;") and its schema is migrated from
+ * db/shard-migration on startup. The shard pools report the same hikaricp.*
+ * and db.connection.hold metrics as the main one.
+ *
+ * Shards store content as plain text only: their schema has no
+ * content_compressed column, so journals.content-compression.enabled is
+ * rejected at startup, as is the cold tier (JournalArchiver does not run).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "journals.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(JournalShardingProperties.class)
+public class JournalShardingConfig {
+
+    @Bean
+    public ShardedJournalRepository shardedJournalRepository(
+            JournalShardingProperties properties,
+            @Value("${journals.bulk-delete.chunk-size:1000}") int deleteChunkSize,
+            @Value("${journals.bulk-delete.statement-timeout:PT5S}") Duration deleteTimeout,
+            @Value("${journals.content-compression.enabled:false}") boolean compressionEnabled,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry) {
+        if (compressionEnabled) {
+            throw new IllegalStateException("journals.content-compression.enabled does not support journals.sharding.enabled");
+        }
+        if (properties.shards().isEmpty()) {
+            throw new IllegalStateException("journals.sharding.enabled is set but no journals.sharding.shards are configured");
+        }
+        Set<String> names = new HashSet<>();
+        List<JournalShard> shards = new ArrayList<>(properties.shards().size());
+        for (JournalShardingProperties.Shard shard : properties.shards()) {
+            if (shard.name() == null || !names.add(shard.name())) {
+                throw new IllegalStateException("Every journal shard needs a unique name, got: " + shard.name());
+            }
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("journals-" + shard.name());
+            pool.setJdbcUrl(shard.jdbcUrl());
+            pool.setUsername(shard.username());
+            pool.setPassword(shard.password());
+            pool.setMaximumPoolSize(shard.maximumPoolSize());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            Flyway.configure()
+                .dataSource(pool)
+                .locations("classpath:db/shard-migration")
+                .load()
+                .migrate();
+            shards.add(new JournalShard(shard.name(),
+                new ConnectionHoldTimeDataSource(pool, pool.getPoolName(), meterRegistry)));
+        }
+        return new ShardedJournalRepository(
+            new ConsistentHashRing<>(shards, JournalShard::name, properties.virtualNodes()),
+            userRepository::existsById, deleteChunkSize, deleteTimeout);
+    }
+
+    /**
+     * With journals.sharding.rebalance=true the process moves misplaced journals
+     * and exits instead of serving requests.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "journals.sharding.rebalance", havingValue = "true")
+    public ApplicationRunner journalShardRebalance(ShardedJournalRepository repository,
+                                                   ConfigurableApplicationContext context,
+                                                   @Value("${journals.sharding.rebalance-batch-size:1000}") int batchSize) {
+        return args -> {
+            new JournalShardRebalancer(repository, batchSize).rebalance();
+            System.exit(SpringApplication.exit(context));
+        };
+    }
+}
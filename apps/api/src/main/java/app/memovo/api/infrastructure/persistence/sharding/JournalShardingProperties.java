@@ -0,0 +1,31 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * journals.sharding.* settings
+ *
+ * @param enabled      store journals on the shards instead of the main database
+ * @param virtualNodes points per shard on the hash ring
+ * @param shards       shard databases; names place them on the ring and must never change
+ */
+@ConfigurationProperties("journals.sharding")
+public record JournalShardingProperties(boolean enabled, Integer virtualNodes, List<Shard> shards) {
+
+    public JournalShardingProperties {
+        virtualNodes = virtualNodes == null ? 128 : virtualNodes;
+        shards = shards == null ? List.of() : List.copyOf(shards);
+    }
+
+    /**
+     * @param maximumPoolSize connections in this shard's own pool
+     */
+    public record Shard(String name, String jdbcUrl, String username, String password, Integer maximumPoolSize) {
+
+        public Shard {
+            maximumPoolSize = maximumPoolSize == null ? 5 : maximumPoolSize;
+        }
+    }
+}
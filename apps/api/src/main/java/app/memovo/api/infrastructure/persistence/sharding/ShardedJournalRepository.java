@@ -0,0 +1,425 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.infrastructure.persistence.PersistenceSupport;
+import app.memovo.api.exception.UserNotFoundException;
+
+/**
+ * Journals spread over several databases by owner: a user's journals all live
+ * on the shard the hash ring assigns to the user id, so every per-user method
+ * runs the same single-shard query the JPA adapter runs.
+ *
+ * Methods that only know a journal id (findById, existsById, deleteById,
+ * patch) look on each shard in turn. Bulk inserts and saves that change a
+ * journal's owner write to more than one shard without a shared transaction;
+ * the new copy is written before the old one is removed.
+ *
+ * Users stay in the main database, so no foreign key keeps a shard's journals
+ * tied to an existing user: every new row's owner is looked up there first and
+ * an unknown one is rejected with a {@link UserNotFoundException}.
+ */
+public class ShardedJournalRepository implements JournalRepository, AutoCloseable {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String COLUMNS = "entry_id, user_id, title, content, created_at";
+    private static final String[] RETURNED_COLUMNS = {"entry_id", "user_id", "title", "content", "created_at"};
+    private static final String INSERT = "insert into journals (" + COLUMNS + ") values (?, ?, ?, ?, ?)";
+    private static final String NEWEST_FIRST = " order by created_at desc, entry_id desc";
+    // Same keyset predicate as SpringDataJournalRepository.findPageAfter
+    private static final String AFTER_CURSOR =
+        " and created_at <= ? and (created_at < ? or (created_at = ? and entry_id < ?))";
+
+    private static final RowMapper<Journal> JOURNAL = (rs, rowNum) -> new Journal(
+        rs.getString("entry_id"),
+        rs.getString("user_id"),
+        rs.getString("title"),
+        rs.getString("content"),
+        rs.getObject("created_at", LocalDateTime.class));
+
+    private final ConsistentHashRing<JournalShard> ring;
+    private final Predicate<String> userExists;
+    private final int deleteChunkSize;
+    private final int deleteTimeoutSeconds;
+
+    public ShardedJournalRepository(ConsistentHashRing<JournalShard> ring, Predicate<String> userExists,
+                                    int deleteChunkSize, Duration deleteTimeout) {
+        this.ring = ring;
+        this.userExists = userExists;
+        this.deleteChunkSize = Math.max(1, deleteChunkSize);
+        this.deleteTimeoutSeconds = PersistenceSupport.queryTimeoutSeconds(deleteTimeout);
+    }
+
+    /**
+     * The shard holding {@code userId}'s journals.
+     */
+    public JournalShard shardFor(String userId) {
+        return ring.nodeFor(userId);
+    }
+
+    /**
+     * All shards, in configuration order.
+     */
+    public List<JournalShard> shards() {
+        return ring.nodes();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (JournalShard shard : ring.nodes()) {
+            shard.close();
+        }
+    }
+
+    @Override
+    public Journal save(Journal journal) {
+        UUID entryId = UUID.fromString(journal.getId());
+        JournalShard owner = shardFor(journal.getUserId());
+        boolean inserted = owner.inTransaction(status -> {
+            int updated = owner.jdbc().update("update journals set user_id = ?, title = ?, content = ? where entry_id = ?",
+                journal.getUserId(), journal.getTitle(), journal.getContent(), entryId);
+            if (updated == 0) {
+                requireUser(journal.getUserId());
+                owner.jdbc().update(INSERT, entryId, journal.getUserId(), journal.getTitle(), journal.getContent(),
+                    Timestamp.valueOf(journal.getCreatedAt()));
+            }
+            return updated == 0;
+        });
+        if (inserted) {
+            // A new row on this shard may be an existing journal whose owner moved here
+            for (JournalShard shard : ring.nodes()) {
+                if (shard != owner) {
+                    shard.jdbc().update("delete from journals where entry_id = ?", entryId);
+                }
+            }
+        }
+        return copyOf(journal);
+    }
+
+    @Override
+    public Journal insert(Journal journal) {
+        requireUser(journal.getUserId());
+        shardFor(journal.getUserId()).jdbc().update(INSERT, UUID.fromString(journal.getId()), journal.getUserId(),
+            journal.getTitle(), journal.getContent(), Timestamp.valueOf(journal.getCreatedAt()));
+        return copyOf(journal);
+    }
+
+    @Override
+    public List<Journal> insertAll(List<Journal> journals) {
+        journals.stream().map(Journal::getUserId).distinct().forEach(this::requireUser);
+        Map<JournalShard, List<Object[]>> rowsByShard = new LinkedHashMap<>();
+        for (Journal journal : journals) {
+            rowsByShard.computeIfAbsent(shardFor(journal.getUserId()), shard -> new ArrayList<>())
+                .add(new Object[] {UUID.fromString(journal.getId()), journal.getUserId(), journal.getTitle(),
+                    journal.getContent(), Timestamp.valueOf(journal.getCreatedAt())});
+        }
+        rowsByShard.forEach((shard, rows) -> shard.inTransaction(status -> shard.jdbc().batchUpdate(INSERT, rows)));
+        return journals.stream().map(ShardedJournalRepository::copyOf).toList();
+    }
+
+    @Override
+    public Optional<Journal> patch(String id, String userId, Journal changes) {
+        Optional<UUID> entryId = PersistenceSupport.parseId(id);
+        if (entryId.isEmpty() || userId == null) {
+            return Optional.empty();
+        }
+        // The owner never changes, so the journal can only be on the owner's shard
+        JournalShard shard = shardFor(userId);
+
+        List<String> assignments = new ArrayList<>(2);
+        List<Object> values = new ArrayList<>(4);
+        if (changes.getTitle() != null) {
+            assignments.add("title = ?");
+            values.add(changes.getTitle());
+        }
+        if (changes.getContent() != null) {
+            assignments.add("content = ?");
+            values.add(changes.getContent());
+        }
+        if (assignments.isEmpty()) {
+            return findOn(shard, entryId.get()).filter(journal -> userId.equals(journal.getUserId()));
+        }
+        values.add(entryId.get());
+        values.add(userId);
+
+        String sql = "update journals set " + String.join(", ", assignments) + " where entry_id = ? and user_id = ?";
+        return shard.inTransaction(status -> shard.jdbc().execute((ConnectionCallback<Optional<Journal>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, RETURNED_COLUMNS)) {
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(i + 1, values.get(i));
+                }
+                if (statement.executeUpdate() == 0) {
+                    return Optional.empty();
+                }
+                try (ResultSet row = statement.getGeneratedKeys()) {
+                    return row.next() ? Optional.of(JOURNAL.mapRow(row, 0)) : Optional.empty();
+                }
+            }
+        }));
+    }
+
+    @Override
+    public Optional<Journal> findById(String id) {
+        return PersistenceSupport.parseId(id).flatMap(entryId -> {
+            for (JournalShard shard : ring.nodes()) {
+                Optional<Journal> journal = findOn(shard, entryId);
+                if (journal.isPresent()) {
+                    return journal;
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    @Override
+    public Optional<Journal> findByIdForUser(String id, String userId) {
+        Optional<UUID> entryId = PersistenceSupport.parseId(id);
+        if (entryId.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Journal> own = findOn(shardFor(userId), entryId.get())
+            .filter(journal -> journal.getUserId().equals(userId));
+        if (own.isPresent()) {
+            return own;
+        }
+        // Someone else's journal: only its owner is reported, never its text
+        return findById(id).map(journal -> new Journal(
+            journal.getId(), journal.getUserId(), null, null, journal.getCreatedAt()));
+    }
+
+    @Override
+    public List<Journal> findAllByIds(Collection<String> ids, String userId) {
+        List<UUID> entryIds = PersistenceSupport.parseIds(ids);
+        if (entryIds.isEmpty()) {
+            return List.of();
+        }
+        return shardFor(userId).namedJdbc().query(
+            "select " + COLUMNS + " from journals where user_id = :userId and entry_id in (:ids)",
+            new MapSqlParameterSource("userId", userId).addValue("ids", entryIds),
+            JOURNAL);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        PersistenceSupport.parseId(id).ifPresent(entryId -> {
+            for (JournalShard shard : ring.nodes()) {
+                shard.jdbc().update("delete from journals where entry_id = ?", entryId);
+            }
+        });
+    }
+
+    @Override
+    public int deleteByIdAndUserId(String id, String userId) {
+        return PersistenceSupport.parseId(id)
+            .map(entryId -> shardFor(userId).jdbc().update(
+                "delete from journals where entry_id = ? and user_id = ?", entryId, userId))
+            .orElse(0);
+    }
+
+    @Override
+    public int deleteAllByIdsAndUserId(Collection<String> ids, String userId) {
+        List<UUID> entryIds = PersistenceSupport.parseIds(ids);
+        JournalShard shard = shardFor(userId);
+        return shard.inTransaction(status -> {
+            int deleted = 0;
+            for (int start = 0; start < entryIds.size(); start += deleteChunkSize) {
+                List<UUID> chunk = entryIds.subList(start, Math.min(start + deleteChunkSize, entryIds.size()));
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                List<Object> values = new ArrayList<>(chunk.size() + 1);
+                values.add(userId);
+                values.addAll(chunk);
+                deleted += deleteWithinBudget(shard,
+                    "delete from journals where user_id = ? and entry_id in (" + placeholders + ")", values);
+            }
+            return deleted;
+        });
+    }
+
+    @Override
+    public int deleteAllByUserIdAndCreatedAtBetween(String userId, LocalDateTime from, LocalDateTime to) {
+        JournalShard shard = shardFor(userId);
+        List<Object> values = List.of(userId, Timestamp.valueOf(from), Timestamp.valueOf(to), deleteChunkSize);
+        return shard.inTransaction(status -> {
+            int deleted = 0;
+            int last;
+            do {
+                last = deleteWithinBudget(shard, """
+                        delete from journals
+                        where entry_id in (
+                            select entry_id from journals
+                            where user_id = ? and created_at >= ? and created_at < ?
+                            limit ?)
+                        """, values);
+                deleted += last;
+            } while (last == deleteChunkSize);
+            return deleted;
+        });
+    }
+
+    // A chunk that overruns the budget aborts the statement and rolls the shard's delete back
+    private int deleteWithinBudget(JournalShard shard, String sql, List<Object> values) {
+        try {
+            return shard.jdbc().update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setQueryTimeout(deleteTimeoutSeconds);
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setObject(i + 1, values.get(i));
+                }
+                return statement;
+            });
+        } catch (RuntimeException e) {
+            throw PersistenceSupport.deleteFailure(e, deleteTimeoutSeconds);
+        }
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return PersistenceSupport.parseId(id).map(entryId -> shardHolding(entryId).isPresent()).orElse(false);
+    }
+
+    @Override
+    public long countByUserId(String userId) {
+        return shardFor(userId).jdbc().queryForObject(
+            "select count(*) from journals where user_id = ?", Long.class, userId);
+    }
+
+    @Override
+    public int deleteChunkByUserId(String userId, int limit) {
+        return shardFor(userId).jdbc().update(
+            "delete from journals where entry_id in (select entry_id from journals where user_id = ? limit ?)",
+            userId, limit);
+    }
+
+    @Override
+    public List<Journal> findByUserId(String userId) {
+        return shardFor(userId).jdbc().query(
+            "select " + COLUMNS + " from journals where user_id = ?", JOURNAL, userId);
+    }
+
+    @Override
+    public List<Journal> findByUserIdAndCreatedAtBetween(String userId, LocalDateTime from, LocalDateTime to) {
+        return shardFor(userId).jdbc().query(
+            "select " + COLUMNS + " from journals where user_id = ? and created_at >= ? and created_at < ?" + NEWEST_FIRST,
+            JOURNAL, userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<JournalDayCount> countByUserIdPerDay(String userId, LocalDateTime from, LocalDateTime to) {
+        return shardFor(userId).jdbc().query("""
+                select cast(created_at as date) as entry_date, count(*) as entries
+                from journals
+                where user_id = ? and created_at >= ? and created_at < ?
+                group by cast(created_at as date)
+                order by cast(created_at as date)
+                """,
+            (rs, rowNum) -> new JournalDayCount(rs.getObject("entry_date", LocalDate.class), rs.getLong("entries")),
+            userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<Journal> findPageByUserId(String userId, JournalCursor after, int limit) {
+        JournalShard shard = shardFor(userId);
+        if (after == null) {
+            return shard.jdbc().query(
+                "select " + COLUMNS + " from journals where user_id = ?" + NEWEST_FIRST + " limit ?",
+                JOURNAL, userId, limit);
+        }
+        Timestamp createdAt = Timestamp.valueOf(after.createdAt());
+        return shard.jdbc().query(
+            "select " + COLUMNS + " from journals where user_id = ?" + AFTER_CURSOR + NEWEST_FIRST + " limit ?",
+            JOURNAL, userId, createdAt, createdAt, createdAt, UUID.fromString(after.id()), limit);
+    }
+
+    @Override
+    public List<JournalSummary> findSummaryPageByUserId(String userId, JournalCursor after, int limit, int snippetLength) {
+        // The CASE keeps content untouched unless a snippet is asked for
+        String select = """
+                select entry_id, user_id, title, created_at,
+                    case when ? > 0 then substring(content, 1, ?) end as snippet
+                from journals where user_id = ?""";
+        RowMapper<JournalSummary> summary = (rs, rowNum) -> new JournalSummary(
+            rs.getString("entry_id"),
+            rs.getString("user_id"),
+            rs.getString("title"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getString("snippet"));
+        JournalShard shard = shardFor(userId);
+        if (after == null) {
+            return shard.jdbc().query(select + NEWEST_FIRST + " limit ?",
+                summary, snippetLength, snippetLength, userId, limit);
+        }
+        Timestamp createdAt = Timestamp.valueOf(after.createdAt());
+        return shard.jdbc().query(select + AFTER_CURSOR + NEWEST_FIRST + " limit ?",
+            summary, snippetLength, snippetLength, userId, createdAt, createdAt, createdAt, UUID.fromString(after.id()),
+            limit);
+    }
+
+    @Override
+    public long forEachByUserId(String userId, Consumer<Journal> action) {
+        JournalShard shard = shardFor(userId);
+        // Postgres only streams through a cursor inside a transaction; otherwise it sends every row at once
+        return shard.inReadOnlyTransaction(status -> {
+            long[] count = {0};
+            shard.jdbc().query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "select " + COLUMNS + " from journals where user_id = ?" + NEWEST_FIRST);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setString(1, userId);
+                return statement;
+            }, rs -> {
+                action.accept(JOURNAL.mapRow(rs, (int) count[0]));
+                count[0]++;
+            });
+            return count[0];
+        });
+    }
+
+    private void requireUser(String userId) {
+        if (!userExists.test(userId)) {
+            throw new UserNotFoundException("User not found with id: " + userId);
+        }
+    }
+
+    private Optional<JournalShard> shardHolding(UUID entryId) {
+        for (JournalShard shard : ring.nodes()) {
+            if (!shard.jdbc().queryForList("select 1 from journals where entry_id = ?", Integer.class, entryId).isEmpty()) {
+                return Optional.of(shard);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Journal> findOn(JournalShard shard, UUID entryId) {
+        return shard.jdbc().query("select " + COLUMNS + " from journals where entry_id = ?", JOURNAL, entryId)
+            .stream().findFirst();
+    }
+
+    private static Journal copyOf(Journal journal) {
+        return new Journal(journal.getId(), journal.getUserId(), journal.getTitle(), journal.getContent(),
+            journal.getCreatedAt());
+    }
+}
@@ -1,15 +1,12 @@
 package app.memovo.api.security;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.clerk.backend_api.helpers.security.VerifyToken;
-import com.clerk.backend_api.helpers.security.models.TokenVerificationException;
-import com.clerk.backend_api.helpers.security.models.VerifyTokenOptions;
-import com.clerk.backend_api.models.errors.ClerkErrors;
-
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
@@ -26,19 +23,22 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class ClerkAuthenticationFilter implements Filter {
 
-    @Value("${clerk.secret.key:}")
-    private String clerkSecretKey;
-
     @Value("${api.key:}")
     private String apiKey;
 
+    private final TokenVerifier tokenVerifier;
+    private final VerifiedTokenCache tokenCache;
+    private final RateLimiter rateLimiter;
+
+    public ClerkAuthenticationFilter(TokenVerifier tokenVerifier, VerifiedTokenCache tokenCache,
+                                     RateLimiter rateLimiter) {
+        this.tokenVerifier = tokenVerifier;
+        this.tokenCache = tokenCache;
+        this.rateLimiter = rateLimiter;
+    }
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
-        if (clerkSecretKey == null || clerkSecretKey.isEmpty()) {
-            throw new ServletException(
-                "Clerk secret key is not configured. Please set clerk.secret.key"
-            );
-        }
     }
 
     @Override
@@ -66,6 +66,9 @@ public class ClerkAuthenticationFilter implements Filter {
                 && apiKey != null
                 && apiKey.equals(apiKeyHeader)) {
 
+            if (isRateLimited(apiKeyHeader, httpRequest, httpResponse)) {
+                return;
+            }
             executeSafely(chain, request, response);
             return;
         }
@@ -79,27 +82,23 @@ public class ClerkAuthenticationFilter implements Filter {
 
         String token = authHeader.substring(7);
 
-        try {
-            VerifyTokenOptions options =
-                    VerifyTokenOptions.Builder
-                            .withSecretKey(clerkSecretKey)
-                            .build();
-
-            var verifyResponse = VerifyToken.verifyToken(token, options);
+        // Repeat requests with an already-verified token skip signature verification
+        Claims claims = tokenCache.get(token);
 
-            Object payload = verifyResponse.payload();
+        if (claims == null) {
+            try {
+                claims = tokenVerifier.verify(token);
+                tokenCache.put(token, claims);
 
-            if (!(payload instanceof io.jsonwebtoken.Claims)) {
-                throw new ServletException("Invalid token payload");
+            } catch (UnauthorizedException e) {
+                sendUnauthorizedError(httpResponse, e.getMessage());
+                return;
             }
+        }
 
-            httpRequest.setAttribute("clerk.claims", payload);
-
-        } catch (ClerkErrors |
-                 TokenVerificationException |
-                 InterruptedException e) {
+        httpRequest.setAttribute("clerk.claims", claims);
 
-            sendUnauthorizedError(httpResponse, "Invalid or expired token");
+        if (isRateLimited(claims.getSubject(), httpRequest, httpResponse)) {
             return;
         }
 
@@ -140,6 +139,32 @@ public class ClerkAuthenticationFilter implements Filter {
         }
     }
 
+    /**
+     * Takes a permit for the principal and answers 429 with Retry-After when
+     * its bucket is empty
+     */
+    private boolean isRateLimited(
+            String principal,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+
+        long waitNanos = rateLimiter.tryAcquire(principal, RateLimiter.isWrite(request.getMethod()));
+        if (waitNanos == 0) {
+            return false;
+        }
+
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        response.setStatus(429);
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write(
+            "{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded\"}"
+        );
+        return true;
+    }
+
     private void sendUnauthorizedError(HttpServletResponse response, String message)
             throws IOException {
 
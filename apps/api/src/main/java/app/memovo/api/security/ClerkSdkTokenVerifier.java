@@ -0,0 +1,54 @@
+package app.memovo.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.clerk.backend_api.helpers.security.VerifyToken;
+import com.clerk.backend_api.helpers.security.models.TokenVerificationException;
+import com.clerk.backend_api.helpers.security.models.VerifyTokenOptions;
+import com.clerk.backend_api.models.errors.ClerkErrors;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Verifies tokens through the Clerk SDK using {@code clerk.secret.key}
+ */
+@Component
+@ConditionalOnProperty(name = "clerk.verification.mode", havingValue = "sdk", matchIfMissing = true)
+public class ClerkSdkTokenVerifier implements TokenVerifier {
+
+    private final VerifyTokenOptions verifyTokenOptions;
+
+    public ClerkSdkTokenVerifier(@Value("${clerk.secret.key:}") String clerkSecretKey) {
+        if (clerkSecretKey == null || clerkSecretKey.isEmpty()) {
+            throw new IllegalStateException(
+                "Clerk secret key is not configured. Please set clerk.secret.key"
+            );
+        }
+
+        // Options only depend on the secret key, so build them once
+        this.verifyTokenOptions = VerifyTokenOptions.Builder
+                .withSecretKey(clerkSecretKey)
+                .build();
+    }
+
+    @Override
+    public Claims verify(String token) {
+        try {
+            var verifyResponse = VerifyToken.verifyToken(token, verifyTokenOptions);
+
+            if (!(verifyResponse.payload() instanceof Claims claims)) {
+                throw new UnauthorizedException("Invalid token payload");
+            }
+
+            return claims;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnauthorizedException("Invalid or expired token", e);
+        } catch (ClerkErrors | TokenVerificationException e) {
+            throw new UnauthorizedException("Invalid or expired token", e);
+        }
+    }
+}
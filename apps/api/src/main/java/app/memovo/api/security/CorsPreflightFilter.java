@@ -0,0 +1,154 @@
+package app.memovo.api.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers CORS preflight requests directly in the filter chain
+ *
+ * Runs ahead of {@link ClerkAuthenticationFilter} so browsers can preflight
+ * authenticated routes without an Authorization header, and never reach the
+ * MVC layer. Header values are precomputed per configured origin pattern;
+ * only the matching origin is echoed back per request. Non-preflight requests
+ * pass through untouched and are handled by the MVC CORS mapping.
+ */
+@Component
+public class CorsPreflightFilter implements Filter {
+
+    private static final String VARY_VALUE = String.join(", ",
+            HttpHeaders.ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+    private static final int MAX_RESOLVED_ORIGINS = 256;
+
+    private final List<Preflight> preflights;
+    private final Set<String> allowedMethods;
+    private final Map<String, Preflight> resolvedOrigins = new ConcurrentHashMap<>();
+
+    public CorsPreflightFilter(
+            @Value("${cors.allowed-origin-patterns:*}") List<String> allowedOriginPatterns,
+            @Value("${cors.allowed-methods:GET,POST,PUT,PATCH,DELETE,OPTIONS}") List<String> allowedMethods,
+            @Value("${cors.allowed-headers:*}") List<String> allowedHeaders,
+            @Value("${cors.max-age:PT1H}") Duration maxAge) {
+
+        this.allowedMethods = allowedMethods.stream()
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+
+        String methods = String.join(", ", allowedMethods.stream().map(String::trim).toList());
+        String headers = allowedHeaders.contains("*")
+                ? null
+                : String.join(", ", allowedHeaders.stream().map(String::trim).toList());
+        String maxAgeSeconds = Long.toString(maxAge.toSeconds());
+
+        this.preflights = allowedOriginPatterns.stream()
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .map(pattern -> new Preflight(toRegex(pattern), methods, headers, maxAgeSeconds))
+                .toList();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String origin = httpRequest.getHeader(HttpHeaders.ORIGIN);
+        String requestMethod = httpRequest.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+
+        if (!"OPTIONS".equals(httpRequest.getMethod()) || origin == null || requestMethod == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        httpResponse.setHeader(HttpHeaders.VARY, VARY_VALUE);
+
+        Preflight preflight = resolve(origin);
+        if (preflight == null || !allowedMethods.contains(requestMethod)) {
+            httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            httpResponse.getWriter().write("Invalid CORS request");
+            return;
+        }
+
+        httpResponse.setStatus(HttpServletResponse.SC_OK);
+        httpResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+        httpResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, preflight.methods());
+        httpResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        httpResponse.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, preflight.maxAgeSeconds());
+
+        // A wildcard cannot be used with credentials, so echo the requested headers instead
+        String headers = preflight.headers() != null
+                ? preflight.headers()
+                : httpRequest.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+        if (headers != null && !headers.isEmpty()) {
+            httpResponse.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, headers);
+        }
+    }
+
+    private Preflight resolve(String origin) {
+        Preflight cached = resolvedOrigins.get(origin);
+        if (cached != null) {
+            return cached;
+        }
+
+        for (Preflight preflight : preflights) {
+            if (preflight.originPattern().matcher(origin).matches()) {
+                if (resolvedOrigins.size() < MAX_RESOLVED_ORIGINS) {
+                    resolvedOrigins.put(origin, preflight);
+                }
+                return preflight;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts an origin pattern in the same syntax as
+     * {@code CorsRegistration.allowedOriginPatterns} into a regex: {@code *}
+     * matches any sequence and a trailing {@code :[*]} matches any port.
+     */
+    private static Pattern toRegex(String originPattern) {
+        String pattern = originPattern;
+        String portSuffix = "";
+        if (pattern.endsWith(":[*]")) {
+            pattern = pattern.substring(0, pattern.length() - 4);
+            portSuffix = "(:\\d+)?";
+        }
+
+        String[] literals = pattern.split("\\*", -1);
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < literals.length; i++) {
+            if (i > 0) {
+                regex.append(".*");
+            }
+            if (!literals[i].isEmpty()) {
+                regex.append(Pattern.quote(literals[i]));
+            }
+        }
+        return Pattern.compile(regex + portSuffix);
+    }
+
+    private record Preflight(Pattern originPattern, String methods, String headers, String maxAgeSeconds) {
+    }
+}
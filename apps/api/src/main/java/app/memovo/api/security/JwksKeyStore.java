@@ -0,0 +1,222 @@
+package app.memovo.api.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+
+/**
+ * In-memory store of RSA public keys parsed from a JWKS document, indexed by
+ * {@code kid}.
+ *
+ * The document is loaded from a Spring resource location ({@code file:},
+ * {@code classpath:} or {@code https:}) and refreshed in the background at a
+ * jittered interval, so lookups on the request path never touch the network.
+ * A {@code kid} that is not known yet (a key rotation) triggers at most one
+ * on-demand refresh per {@code minRefreshInterval}. Every caller that misses
+ * while it runs waits for it and is served from the refreshed set.
+ */
+public class JwksKeyStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyStore.class);
+
+    private final String location;
+    private final Duration refreshInterval;
+    private final Duration refreshJitter;
+    private final Duration minRefreshInterval;
+    private final Duration timeout;
+    private final Clock clock;
+
+    private final AtomicReference<CompletableFuture<Void>> onDemandRefresh = new AtomicReference<>();
+    private volatile long lastOnDemandRefresh = Long.MIN_VALUE;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public JwksKeyStore(String location, Duration refreshInterval, Duration refreshJitter,
+                        Duration minRefreshInterval, Duration timeout, Clock clock) {
+        if (location == null || location.isBlank()) {
+            throw new IllegalStateException(
+                "JWKS location is not configured. Please set clerk.jwks.location"
+            );
+        }
+        this.location = location;
+        this.refreshInterval = refreshInterval;
+        this.refreshJitter = refreshJitter;
+        this.minRefreshInterval = minRefreshInterval;
+        this.timeout = timeout;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the keys once and schedules background refreshes. A failed
+     * initial load is logged; the first unknown {@code kid} retries it.
+     */
+    public void start() {
+        refreshQuietly();
+        scheduleNextRefresh();
+    }
+
+    /**
+     * Returns the key for the given {@code kid}. An unknown {@code kid} starts
+     * an on-demand refresh, or joins the one in flight, and waits for it up to
+     * the connect plus read timeout. Outside a refresh, an unknown {@code kid}
+     * within {@code minRefreshInterval} of the last one is answered from the
+     * current set, so tokens with made-up {@code kid}s cannot hammer the issuer.
+     */
+    public PublicKey find(String kid) {
+        if (kid == null) {
+            return null;
+        }
+
+        PublicKey key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+
+        CompletableFuture<Void> refresh = joinOrStartRefresh();
+        if (refresh != null) {
+            try {
+                refresh.get(timeout.toMillis() * 2, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("On-demand JWKS refresh for kid {} did not complete: {}", kid, e.toString());
+            }
+        }
+        return keys.get(kid);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * The on-demand refresh in flight, a newly started one, or {@code null}
+     * when the last one started less than {@code minRefreshInterval} ago. It
+     * runs on the refresh thread, so a caller that gives up waiting does not
+     * abandon it for the others.
+     */
+    private CompletableFuture<Void> joinOrStartRefresh() {
+        CompletableFuture<Void> inFlight = onDemandRefresh.get();
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        long now = clock.millis();
+        long last = lastOnDemandRefresh;
+        if (last != Long.MIN_VALUE && now - last < minRefreshInterval.toMillis()) {
+            return null;
+        }
+
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        if (!onDemandRefresh.compareAndSet(null, started)) {
+            // Lost to another caller: wait for its refresh (null when it has already swapped the keys in)
+            return onDemandRefresh.get();
+        }
+        lastOnDemandRefresh = now;
+        try {
+            scheduler.execute(() -> {
+                try {
+                    refreshQuietly();
+                } finally {
+                    onDemandRefresh.set(null);
+                    started.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Closed store: nothing will refresh the keys any more
+            onDemandRefresh.set(null);
+            started.complete(null);
+        }
+        return started;
+    }
+
+    /**
+     * Re-reads the JWKS document and atomically swaps in the parsed keys.
+     * Non-RSA keys and keys without a {@code kid} are ignored.
+     */
+    public synchronized void refresh() throws IOException {
+        JwkSet jwkSet = Jwks.setParser().build().parse(load());
+
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null && jwk.toKey() instanceof RSAPublicKey rsaKey) {
+                parsed.put(jwk.getId(), rsaKey);
+            }
+        }
+
+        keys = Map.copyOf(parsed);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to refresh JWKS from {}: {}", location, e.getMessage());
+        }
+    }
+
+    private void scheduleNextRefresh() {
+        long jitterMillis = refreshJitter.toMillis();
+        long delayMillis = refreshInterval.toMillis()
+                + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0);
+
+        scheduler.schedule(() -> {
+            refreshQuietly();
+            scheduleNextRefresh();
+        }, Math.max(1_000, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private String load() throws IOException {
+        Resource resource = new DefaultResourceLoader().getResource(location);
+
+        if (resource instanceof UrlResource && !resource.isFile()) {
+            URLConnection connection = resource.getURL().openConnection();
+            connection.setConnectTimeout((int) timeout.toMillis());
+            connection.setReadTimeout((int) timeout.toMillis());
+            try (InputStream in = connection.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package app.memovo.api.security;
+
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Verifies RS256 Clerk tokens locally against keys from {@link JwksKeyStore}.
+ *
+ * Signature, {@code exp} and {@code nbf} are checked by the JWT parser, which
+ * skips a missing {@code exp}, so tokens without one are rejected here; the
+ * {@code azp} claim is checked against {@code clerk.authorized-parties} when
+ * both are present, mirroring the Clerk SDK.
+ */
+@Component
+@ConditionalOnProperty(name = "clerk.verification.mode", havingValue = "jwks")
+public class JwksTokenVerifier implements TokenVerifier {
+
+    private static final String RS256 = "RS256";
+
+    private final JwksKeyStore keyStore;
+    private final Set<String> authorizedParties;
+    private final JwtParser parser;
+
+    @Autowired
+    public JwksTokenVerifier(
+            @Value("${clerk.jwks.location:}") String location,
+            @Value("${clerk.jwks.refresh-interval:PT1H}") Duration refreshInterval,
+            @Value("${clerk.jwks.refresh-jitter:PT5M}") Duration refreshJitter,
+            @Value("${clerk.jwks.min-refresh-interval:PT30S}") Duration minRefreshInterval,
+            @Value("${clerk.jwks.timeout:PT5S}") Duration timeout,
+            @Value("${clerk.authorized-parties:}") List<String> authorizedParties,
+            @Value("${clerk.clock-skew:PT5S}") Duration clockSkew) {
+        this(new JwksKeyStore(location, refreshInterval, refreshJitter, minRefreshInterval, timeout, Clock.systemUTC()),
+                authorizedParties, clockSkew, Clock.systemUTC());
+        keyStore.start();
+    }
+
+    JwksTokenVerifier(JwksKeyStore keyStore, List<String> authorizedParties, Duration clockSkew, Clock clock) {
+        this.keyStore = keyStore;
+        this.authorizedParties = authorizedParties.stream()
+                .map(String::trim)
+                .filter(party -> !party.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.parser = Jwts.parser()
+                .keyLocator(new KidLocator())
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .clock(() -> new Date(clock.millis()))
+                .build();
+    }
+
+    @Override
+    public Claims verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Invalid or expired token", e);
+        }
+
+        if (claims.getExpiration() == null) {
+            throw new UnauthorizedException("Token has no expiration");
+        }
+
+        String azp = claims.get("azp", String.class);
+        if (azp != null && !authorizedParties.isEmpty() && !authorizedParties.contains(azp)) {
+            throw new UnauthorizedException("Token was not issued for an authorized party");
+        }
+
+        return claims;
+    }
+
+    @PreDestroy
+    public void close() {
+        keyStore.close();
+    }
+
+    private final class KidLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            if (!RS256.equals(header.getAlgorithm())) {
+                throw new UnauthorizedException("Unsupported token algorithm");
+            }
+
+            Key key = keyStore.find(header.getKeyId());
+            if (key == null) {
+                throw new UnauthorizedException("Unknown signing key");
+            }
+            return key;
+        }
+    }
+}
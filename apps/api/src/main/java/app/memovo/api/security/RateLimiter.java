@@ -0,0 +1,169 @@
+package app.memovo.api.security;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-principal token-bucket rate limiter with separate read and write limits.
+ *
+ * Each principal (JWT subject or API key) owns one bucket per limit class,
+ * implemented as a GCRA cell: a single {@link AtomicLong} holding the
+ * theoretical arrival time, updated with one CAS. Acquiring a permit for a
+ * known principal therefore allocates nothing. Buckets live in striped maps
+ * and are swept in the background once they have been idle (fully refilled)
+ * for {@code idleTimeout}.
+ */
+@Component
+public class RateLimiter implements AutoCloseable {
+
+    private static final int STRIPES = 16;
+
+    private final boolean enabled;
+    private final Limit read;
+    private final Limit write;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public RateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.read.capacity:120}") long readCapacity,
+            @Value("${rate-limit.read.refill-per-second:20}") double readRefillPerSecond,
+            @Value("${rate-limit.write.capacity:30}") long writeCapacity,
+            @Value("${rate-limit.write.refill-per-second:5}") double writeRefillPerSecond,
+            @Value("${rate-limit.idle-timeout:PT10M}") Duration idleTimeout) {
+        this(enabled, readCapacity, readRefillPerSecond, writeCapacity, writeRefillPerSecond,
+                idleTimeout, System::nanoTime);
+    }
+
+    RateLimiter(boolean enabled, long readCapacity, double readRefillPerSecond,
+                long writeCapacity, double writeRefillPerSecond,
+                Duration idleTimeout, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.read = new Limit(readCapacity, readRefillPerSecond);
+        this.write = new Limit(writeCapacity, writeRefillPerSecond);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+
+        if (enabled) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rate-limit-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long periodMillis = Math.max(1_000, idleTimeout.toMillis() / 2);
+            sweeper.scheduleWithFixedDelay(this::evictIdle, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    /**
+     * Takes one permit for the principal.
+     *
+     * @return 0 if the request is allowed, otherwise the number of
+     * nanoseconds until a permit becomes available
+     */
+    public long tryAcquire(String principal, boolean write) {
+        if (!enabled || principal == null) {
+            return 0;
+        }
+        return (write ? this.write : this.read).tryAcquire(principal, nanoClock.getAsLong());
+    }
+
+    /**
+     * GET, HEAD and OPTIONS count against the read limit, everything else
+     * against the write limit.
+     */
+    public static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    public int bucketCount() {
+        return read.size() + write.size();
+    }
+
+    void evictIdle() {
+        long now = nanoClock.getAsLong();
+        read.evictIdle(now, idleTimeoutNanos);
+        write.evictIdle(now, idleTimeoutNanos);
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    private static final class Limit {
+
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        @SuppressWarnings("unchecked")
+        private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+
+        Limit(long capacity, double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+            }
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+            this.burstNanos = emissionIntervalNanos * capacity;
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new ConcurrentHashMap<>();
+            }
+        }
+
+        long tryAcquire(String principal, long now) {
+            ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(principal);
+            AtomicLong tat = stripe.get(principal);
+            if (tat == null) {
+                tat = stripe.computeIfAbsent(principal, key -> new AtomicLong(now));
+            }
+
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long ahead = next - now;
+                if (ahead > burstNanos) {
+                    return ahead - burstNanos;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        void evictIdle(long now, long idleTimeoutNanos) {
+            for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+                stripe.values().removeIf(tat -> now - tat.get() > idleTimeoutNanos);
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+                size += stripe.size();
+            }
+            return size;
+        }
+
+        private ConcurrentHashMap<String, AtomicLong> stripeFor(String principal) {
+            int hash = principal.hashCode();
+            return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        }
+    }
+}
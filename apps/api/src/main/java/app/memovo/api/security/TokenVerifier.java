@@ -0,0 +1,19 @@
+package app.memovo.api.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Verifies a Clerk session token and returns its claims.
+ *
+ * The active implementation is selected with {@code clerk.verification.mode}:
+ * {@code sdk} (default) delegates to the Clerk SDK, {@code jwks} verifies
+ * locally against cached JWKS public keys.
+ */
+public interface TokenVerifier {
+
+    /**
+     * @throws UnauthorizedException if the token is invalid, expired or not
+     * issued for an authorized party
+     */
+    Claims verify(String token);
+}
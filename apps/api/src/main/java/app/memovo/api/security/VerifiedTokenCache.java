@@ -0,0 +1,218 @@
+package app.memovo.api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded, concurrent cache of already-verified Clerk tokens.
+ *
+ * Entries are keyed by a SHA-256 digest of the raw token (the token itself is
+ * never retained) and are dropped no later than the token's {@code exp} claim,
+ * so a cached token can never outlive its validity. A max size of 0 disables
+ * caching entirely.
+ *
+ * Lookups never lock: entries live in a ConcurrentHashMap and only record when
+ * they were last used. When a put takes the cache past its max size, that
+ * thread drops the expired entries and then the least recently used ones
+ * until a sixteenth of the room is free again, so the work is paid once per
+ * many puts. Other threads carry on while it does, and the size may briefly
+ * exceed the maximum. Hits, misses, evictions and size are published as the
+ * cache.* meters tagged cache=clerk-tokens.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "clerk-tokens";
+
+    private static final int TRIM_FRACTION = 16;
+
+    private final int maxSize;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // Held by the one thread trimming a full cache; others skip the trim rather than wait
+    private final ReentrantLock trimming = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${clerk.token-cache.max-size:10000}") int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = Math.max(0, maxSize);
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "hit")
+            .description("Verified token lookups served from the cache")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tags("cache", CACHE_NAME, "result", "miss")
+            .description("Verified token lookups that had to verify the token")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+            .tags("cache", CACHE_NAME)
+            .description("Verified tokens dropped on expiry or to make room")
+            .register(registry);
+        Gauge.builder("cache.size", this, VerifiedTokenCache::size)
+            .tags("cache", CACHE_NAME)
+            .description("Verified tokens currently cached")
+            .register(registry);
+    }
+
+    /**
+     * Returns the cached claims for the token, or null if the token has not
+     * been verified yet or its cached entry has expired.
+     */
+    public Claims get(String token) {
+        if (maxSize == 0) {
+            return null;
+        }
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAtMillis <= clock.millis()) {
+            remove(key, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        entry.lastUsedNanos = System.nanoTime();
+        hits.increment();
+        return entry.claims;
+    }
+
+    /**
+     * Caches claims of a successfully verified token. Tokens without an
+     * {@code exp} claim, or already expired ones, are not cached.
+     */
+    public void put(String token, Claims claims) {
+        if (maxSize == 0 || claims == null) {
+            return;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+
+        long expiresAtMillis = expiration.getTime();
+        long now = clock.millis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+
+        entries.put(digest(token), new Entry(claims, expiresAtMillis));
+        if (entries.size() > maxSize) {
+            trim();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void trim() {
+        if (!trimming.tryLock()) {
+            return;
+        }
+        try {
+            long now = clock.millis();
+            List<Candidate> live = new ArrayList<>(entries.size());
+            for (Map.Entry<String, Entry> cached : entries.entrySet()) {
+                Entry entry = cached.getValue();
+                if (entry.expiresAtMillis <= now) {
+                    remove(cached.getKey(), entry);
+                } else {
+                    // Stamps keep changing under concurrent hits, so sort a snapshot of them
+                    live.add(new Candidate(cached.getKey(), entry, entry.lastUsedNanos));
+                }
+            }
+
+            int excess = live.size() - (maxSize - maxSize / TRIM_FRACTION);
+            if (excess <= 0) {
+                return;
+            }
+            live.sort(Comparator.comparingLong(Candidate::lastUsedNanos));
+            for (Candidate candidate : live.subList(0, excess)) {
+                remove(candidate.key(), candidate.entry());
+            }
+        } finally {
+            trimming.unlock();
+        }
+    }
+
+    // Only the thread that actually removes the entry counts the eviction
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            evictions.increment();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Entry {
+
+        final Claims claims;
+        final long expiresAtMillis;
+        volatile long lastUsedNanos = System.nanoTime();
+
+        Entry(Claims claims, long expiresAtMillis) {
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private record Candidate(String key, Entry entry, long lastUsedNanos) {
+    }
+}
@@ -0,0 +1,21 @@
+-- Same as db/migration-postgresql/V6, for the unpartitioned journals table (whose
+-- primary key is entry_id alone) and H2's binary type.
+create table journal_archive (
+    entry_id     uuid not null,
+    created_at   timestamp(6) not null,
+    content      varbinary not null,
+    archived_at  timestamp(6) not null,
+    constraint journal_archive_pkey primary key (entry_id, created_at),
+    constraint fk_journal_archive_journal foreign key (entry_id)
+        references journals (entry_id) on delete cascade
+);
+
+create table journal_archive_checkpoint (
+    id                  integer not null,
+    archived_before     timestamp(6),
+    run_cutoff          timestamp(6),
+    run_after_user      varchar(255),
+    leased_until        timestamp(6),
+    constraint journal_archive_checkpoint_pkey primary key (id)
+);
+insert into journal_archive_checkpoint (id) values (1);
@@ -0,0 +1,50 @@
+-- PostgreSQL only (db/migration-{vendor}): journals becomes a table partitioned by
+-- month of created_at. Per-user reads with a created_at bound (pages, ranges, heatmaps,
+-- range deletes) only touch the months they cover, and old months can be detached and
+-- dropped instead of deleted row by row. Partitions are named journals_YYYY_MM; this
+-- script creates them from the oldest entry up to three months ahead and
+-- JournalPartitionMaintenance keeps creating them from then on. Rows outside every
+-- month land in journals_default.
+--
+-- The primary key has to include the partition key, so it becomes (entry_id, created_at);
+-- entry ids are still generated uuids and the API never reuses them. The rows are copied
+-- under an exclusive lock while this runs.
+alter table journals rename to journals_unpartitioned;
+alter table journals_unpartitioned rename constraint journals_pkey to journals_unpartitioned_pkey;
+alter table journals_unpartitioned rename constraint fk7h9nack4wfpjbgm0queg0q3em to journals_unpartitioned_user_fk;
+alter index idx_journals_user_created_entry rename to idx_journals_unpartitioned_user_created_entry;
+
+create table journals (
+    entry_id    uuid not null,
+    user_id     varchar(255) not null,
+    title       varchar(255) not null,
+    content     text,
+    created_at  timestamp(6) not null
+) partition by range (created_at);
+
+create table journals_default partition of journals default;
+
+do $$
+declare
+    month date := date_trunc('month', coalesce((select min(created_at) from journals_unpartitioned), localtimestamp));
+    last_month date := date_trunc('month', localtimestamp + interval '3 months');
+begin
+    while month <= last_month loop
+        execute format('create table %I partition of journals for values from (%L) to (%L)',
+            'journals_' || to_char(month, 'YYYY_MM'), month, month + interval '1 month');
+        month := month + interval '1 month';
+    end loop;
+end
+$$;
+
+insert into journals (entry_id, user_id, title, content, created_at)
+select entry_id, user_id, title, content, created_at from journals_unpartitioned;
+
+drop table journals_unpartitioned;
+
+alter table journals add constraint journals_pkey primary key (entry_id, created_at);
+create index idx_journals_user_created_entry on journals (user_id, created_at desc, entry_id desc);
+alter table journals add constraint fk7h9nack4wfpjbgm0queg0q3em
+    foreign key (user_id) references users (id) on delete cascade;
+
+analyze journals;
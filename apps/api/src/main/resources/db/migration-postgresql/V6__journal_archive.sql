@@ -0,0 +1,47 @@
+-- Cold tier for old journal content (JournalArchiver). An archived journal keeps its
+-- row in journals as a stub with content set to null; the content itself sits here
+-- gzip-compressed and is read back only when the entry is. The key references the
+-- journal, so deleting a journal, or its user, removes the cold copy.
+--
+-- Partitioned by month like journals (journal_archive_YYYY_MM), so partition retention
+-- can detach and drop a month of both tables; JournalPartitionMaintenance creates and
+-- removes the two together from now on.
+create table journal_archive (
+    entry_id     uuid not null,
+    created_at   timestamp(6) not null,
+    content      bytea not null,
+    archived_at  timestamp(6) not null,
+    constraint journal_archive_pkey primary key (entry_id, created_at),
+    constraint fk_journal_archive_journal foreign key (entry_id, created_at)
+        references journals (entry_id, created_at) on delete cascade
+) partition by range (created_at);
+
+create table journal_archive_default partition of journal_archive default;
+
+do $$
+declare
+    month date;
+begin
+    for month in
+        select to_date(substring(c.relname from 10), 'YYYY_MM')
+        from pg_inherits i join pg_class c on c.oid = i.inhrelid
+        where i.inhparent = 'journals'::regclass and c.relname ~ '^journals_\d{4}_\d{2}$'
+    loop
+        execute format('create table %I partition of journal_archive for values from (%L) to (%L)',
+            'journal_archive_' || to_char(month, 'YYYY_MM'), month, month + interval '1 month');
+    end loop;
+end
+$$;
+
+-- Single row tracking the archiver: everything created before archived_before has been
+-- moved by a completed run; a run in progress has a cutoff and the last user it finished,
+-- so a restarted job resumes there. The lease keeps a second instance from running it too.
+create table journal_archive_checkpoint (
+    id                  integer not null,
+    archived_before     timestamp(6),
+    run_cutoff          timestamp(6),
+    run_after_user      varchar(255),
+    leased_until        timestamp(6),
+    constraint journal_archive_checkpoint_pkey primary key (id)
+);
+insert into journal_archive_checkpoint (id) values (1);
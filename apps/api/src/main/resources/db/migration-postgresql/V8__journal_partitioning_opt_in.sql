@@ -0,0 +1,93 @@
+-- Partitioning journals by month (V5, V6) becomes opt-in: it slows down every read that
+-- has no created_at bound, and it gave up the uniqueness of entry_id. The layout is settled
+-- here, once, by journals.partitions.enabled (the journals-partitioned placeholder):
+--
+-- * Off (the default): journals and journal_archive become plain tables again, with the
+--   keys and names they had before V5 (journals_pkey on entry_id; journal_archive
+--   referencing entry_id alone). The rows are copied under an exclusive lock.
+-- * On: both stay partitioned, and entry_id becomes unique again through
+--   journal_entry_ids, a registry of every id that statement triggers keep in step with
+--   journals (a second row with a known id fails on its primary key).
+--   JournalPartitionMaintenance clears the ids of the months it drops. This fails if two
+--   rows already share an id; those have to be resolved first.
+--
+-- Changing the setting after this version has run does not convert the tables again.
+do $$
+begin
+    if not exists (select 1 from pg_partitioned_table where partrelid = 'journals'::regclass) then
+        return;
+    end if;
+
+    if ${journals-partitioned} then
+        create table journal_entry_ids (
+            entry_id    uuid not null,
+            constraint journal_entry_ids_pkey primary key (entry_id)
+        );
+        insert into journal_entry_ids (entry_id) select entry_id from journals;
+
+        -- One statement per INSERT/DELETE on journals, whatever the number of rows (batched
+        -- inserts, chunked and cascading deletes). Moving a row to another month keeps its id
+        create function journal_entry_ids_insert() returns trigger language plpgsql as $fn$
+        begin
+            insert into journal_entry_ids (entry_id) select entry_id from inserted;
+            return null;
+        end
+        $fn$;
+        create function journal_entry_ids_delete() returns trigger language plpgsql as $fn$
+        begin
+            delete from journal_entry_ids r using deleted d where r.entry_id = d.entry_id;
+            return null;
+        end
+        $fn$;
+        create trigger journal_entry_ids_insert after insert on journals
+            referencing new table as inserted for each statement execute function journal_entry_ids_insert();
+        create trigger journal_entry_ids_delete after delete on journals
+            referencing old table as deleted for each statement execute function journal_entry_ids_delete();
+
+        analyze journal_entry_ids;
+        return;
+    end if;
+
+    -- journal_archive references journals, so it is copied out first and referenced again last
+    alter table journal_archive rename to journal_archive_partitioned;
+    alter table journal_archive_partitioned rename constraint journal_archive_pkey to journal_archive_partitioned_pkey;
+
+    create table journal_archive (
+        entry_id     uuid not null,
+        created_at   timestamp(6) not null,
+        content      bytea not null,
+        archived_at  timestamp(6) not null,
+        constraint journal_archive_pkey primary key (entry_id, created_at)
+    );
+    insert into journal_archive (entry_id, created_at, content, archived_at)
+    select entry_id, created_at, content, archived_at from journal_archive_partitioned;
+    drop table journal_archive_partitioned;
+
+    alter table journals rename to journals_partitioned;
+    alter table journals_partitioned rename constraint journals_pkey to journals_partitioned_pkey;
+    alter table journals_partitioned rename constraint fk7h9nack4wfpjbgm0queg0q3em to journals_partitioned_user_fk;
+    alter index idx_journals_user_created_entry rename to idx_journals_partitioned_user_created_entry;
+
+    create table journals (
+        entry_id            uuid not null,
+        user_id             varchar(255) not null,
+        title               varchar(255) not null,
+        content             text,
+        created_at          timestamp(6) not null,
+        content_compressed  bytea,
+        constraint journals_pkey primary key (entry_id)
+    );
+    insert into journals (entry_id, user_id, title, content, created_at, content_compressed)
+    select entry_id, user_id, title, content, created_at, content_compressed from journals_partitioned;
+    drop table journals_partitioned;
+
+    create index idx_journals_user_created_entry on journals (user_id, created_at desc, entry_id desc);
+    alter table journals add constraint fk7h9nack4wfpjbgm0queg0q3em
+        foreign key (user_id) references users (id) on delete cascade;
+    alter table journal_archive add constraint fk_journal_archive_journal
+        foreign key (entry_id) references journals (entry_id) on delete cascade;
+
+    analyze journals;
+    analyze journal_archive;
+end
+$$;
@@ -0,0 +1,24 @@
+-- Baseline schema, identical to what Hibernate's ddl-auto=update created before
+-- migrations were introduced (constraint names included). Existing databases are
+-- baselined at version 1 and skip this script.
+
+create table users (
+    id          varchar(255) not null,
+    first_name  varchar(255) not null,
+    last_name   varchar(255),
+    email       varchar(255) not null,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6) not null,
+    constraint users_pkey primary key (id),
+    constraint uk6dotkott2kjsp8vw4d0m25fb7 unique (email)
+);
+
+create table journals (
+    entry_id    varchar(255) not null,
+    user_id     varchar(255) not null,
+    title       varchar(255) not null,
+    content     text,
+    created_at  timestamp(6) not null,
+    constraint journals_pkey primary key (entry_id),
+    constraint fk7h9nack4wfpjbgm0queg0q3em foreign key (user_id) references users (id)
+);
@@ -0,0 +1,6 @@
+-- Serves every per-user journal read: findByUserId, keyset pages and summaries
+-- (where user_id = ? [and (created_at, entry_id) < (?, ?)] order by created_at desc,
+-- entry_id desc), exports, and the owner lookups behind user deletes.
+-- entry_id is descending too so the index yields the exact keyset order.
+create index if not exists idx_journals_user_created_entry
+    on journals (user_id, created_at desc, entry_id desc);
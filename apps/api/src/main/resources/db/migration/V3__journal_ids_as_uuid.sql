@@ -0,0 +1,5 @@
+-- Journal ids become native 16-byte uuids (new ids are time-ordered UUIDv7).
+-- Existing ids are UUIDv4 strings generated by the API and convert in place; the
+-- table and its indexes are rewritten under an exclusive lock while this runs.
+-- users.id and journals.user_id hold Clerk user ids (user_...), not UUIDs, and stay text.
+alter table journals alter column entry_id type uuid using entry_id::uuid;
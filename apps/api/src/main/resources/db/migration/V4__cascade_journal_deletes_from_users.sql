@@ -0,0 +1,7 @@
+-- Deleting a user row now removes its journals in the database instead of
+-- Hibernate loading and deleting them one by one. User purges still delete
+-- journals in bounded chunks first; the cascade catches whatever is left
+-- (e.g. rows inserted while the purge ran). The FK keeps its original name.
+alter table journals drop constraint fk7h9nack4wfpjbgm0queg0q3em;
+alter table journals add constraint fk7h9nack4wfpjbgm0queg0q3em
+    foreign key (user_id) references users (id) on delete cascade;
@@ -0,0 +1,5 @@
+-- Optional compressed storage of journal content (journals.content-compression.*).
+-- A row keeps its content in either content or content_compressed, never both, so
+-- existing TEXT rows need no rewrite; content_compressed starts with a small header
+-- naming its format (see JournalContentCodec). Nullable, so adding it rewrites nothing.
+alter table journals add column content_compressed bytea;
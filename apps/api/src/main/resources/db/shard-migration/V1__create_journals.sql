@@ -0,0 +1,14 @@
+-- Journal table of a shard. Same columns and owner index as the main schema
+-- (V1-V4), but without the users table: users stay in the main database, so
+-- there is no foreign key and user purges delete journals on the shard first.
+create table journals (
+    entry_id    uuid not null,
+    user_id     varchar(255) not null,
+    title       varchar(255) not null,
+    content     text,
+    created_at  timestamp(6) not null,
+    constraint journals_pkey primary key (entry_id)
+);
+
+create index idx_journals_user_created_entry
+    on journals (user_id, created_at desc, entry_id desc);
@@ -0,0 +1,96 @@
+package app.memovo.api.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.User;
+import app.memovo.api.exception.UserAlreadyExistsException;
+import app.memovo.api.infrastructure.persistence.jpa.StatementCounter;
+
+/**
+ * Creates go straight to a single INSERT: ids are assigned by the application,
+ * so there is nothing to look up first.
+ */
+@SpringBootTest
+@Import(StatementCounter.class)
+class CreateStatementCountIntegrationTest {
+
+    private static final String USER_ID = "create_count_user";
+    private static final String OTHER_USER_ID = "create_count_other_user";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id in (?, ?)", USER_ID, OTHER_USER_ID);
+    }
+
+    @Test
+    void createUser_shouldIssueOneInsert() {
+        statementCounter.reset();
+
+        userService.createUser(user("create-count@example.com"));
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select first_name from users where id = ?", String.class, USER_ID))
+            .isEqualTo("Create");
+    }
+
+    @Test
+    void createJournal_shouldIssueOneInsert() {
+        userService.createUser(user("create-count@example.com"));
+        statementCounter.reset();
+
+        Journal created = journalService.createJournal(new Journal(null, USER_ID, "Title", "Content", null));
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from journals where user_id = ?", Integer.class,
+            USER_ID)).isEqualTo(1);
+        assertThat(created.getId()).isNotNull();
+    }
+
+    @Test
+    void createUser_shouldReturnTheExistingUser_whenTheIdIsTaken() {
+        userService.createUser(user("create-count@example.com"));
+
+        User created = userService.createUser(user("someone-else@example.com"));
+
+        assertThat(created.getEmail()).isEqualTo("create-count@example.com");
+        assertThat(jdbcTemplate.queryForObject("select email from users where id = ?", String.class, USER_ID))
+            .isEqualTo("create-count@example.com");
+    }
+
+    @Test
+    void createUser_shouldReportConflict_whenTheEmailBelongsToAnotherUser() {
+        userService.createUser(user("create-count@example.com"));
+
+        assertThatThrownBy(() -> userService.createUser(
+            new User(OTHER_USER_ID, "Other", "User", "create-count@example.com", null, null)))
+            .isInstanceOf(UserAlreadyExistsException.class);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where id = ?", Integer.class,
+            OTHER_USER_ID)).isZero();
+    }
+
+    private static User user(String email) {
+        return new User(USER_ID, "Create", "Count", email, null, null);
+    }
+}
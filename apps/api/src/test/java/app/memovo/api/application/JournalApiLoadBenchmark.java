@@ -0,0 +1,218 @@
+package app.memovo.api.application;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.ApiApplication;
+import app.memovo.api.infrastructure.persistence.datasource.ConnectionHoldTimeDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Requests per second the API serves from a pool of {@value #POOL_SIZE}
+ * connections (the production size) under {@value #CLIENTS} concurrent
+ * clients, with open-in-view on and off. Every request reads from the database
+ * and then maps and serialises the result; with open-in-view the connection
+ * stays checked out for the serialisation too.
+ *
+ * Clients get a page of 20 journals or a single journal of random users over
+ * HTTP. After each iteration the setup prints throughput per pooled connection and
+ * the mean time a request held and waited for a connection, from the
+ * db.connection.hold and hikaricp.connections.acquire timers.
+ *
+ * Needs PostgreSQL; pass the JDBC URL as {@code bench.jdbc.url}. The seeded
+ * users are removed again after each trial.
+ *
+ * <pre>
+ * ./mvnw test-compile
+ * java -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/memovo -Dbench.user=postgres -Dbench.password=postgres \
+ *     -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     app.memovo.api.application.JournalApiLoadBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(JournalApiLoadBenchmark.CLIENTS)
+@State(Scope.Benchmark)
+public class JournalApiLoadBenchmark {
+
+    static final int CLIENTS = 32;
+    private static final int POOL_SIZE = 5;
+    private static final int USERS = 200;
+    private static final int JOURNALS_PER_USER = 50;
+    private static final String API_KEY = "bench-load-key";
+
+    @Param({"true", "false"})
+    public boolean openInView;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private MeterRegistry meterRegistry;
+    private HttpClient client;
+    private String baseUrl;
+    private List<String> journalIds;
+    private long startedAt;
+    private double[] atStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbench.jdbc.url to a PostgreSQL database");
+        }
+        // System properties win over the H2 settings in the test application.properties
+        System.setProperty("spring.datasource.url", url);
+        System.setProperty("spring.datasource.driverClassName", "org.postgresql.Driver");
+        System.setProperty("spring.datasource.username", System.getProperty("bench.user", "postgres"));
+        System.setProperty("spring.datasource.password", System.getProperty("bench.password", ""));
+        System.setProperty("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .properties(
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "server.port=0",
+                "server.tomcat.threads.max=" + (CLIENTS * 2),
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.jpa.open-in-view=" + openInView,
+                "api.key=" + API_KEY,
+                "rate-limit.enabled=false")
+            .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        journalIds = seed();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        atStart = connectionUse();
+        startedAt = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        double[] use = connectionUse();
+        double requests = use[0] - atStart[0];
+        System.out.printf("%n  openInView=%s: %.0f requests/s per pooled connection, held %.2f ms, "
+                + "waited %.2f ms per request%n",
+            openInView, requests / seconds / POOL_SIZE, (use[1] - atStart[1]) / Math.max(1, requests),
+            (use[3] - atStart[3]) / Math.max(1, use[2] - atStart[2]));
+    }
+
+    /**
+     * Requests that took a connection and for how long in total, then
+     * connections acquired and the total wait, all in milliseconds.
+     */
+    private double[] connectionUse() {
+        double[] use = new double[4];
+        for (Timer timer : meterRegistry.find(ConnectionHoldTimeDataSource.METRIC).tagKeys("uri").timers()) {
+            if (timer.getId().getTag("uri").startsWith("/api/")) {
+                use[0] += timer.count();
+                use[1] += timer.totalTime(TimeUnit.MILLISECONDS);
+            }
+        }
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        use[2] = acquire.count();
+        use[3] = acquire.totalTime(TimeUnit.MILLISECONDS);
+        return use;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("delete from users where id like 'bench_load_%'");
+        context.close();
+    }
+
+    @Benchmark
+    public int journalPage() throws IOException, InterruptedException {
+        return get("/journals/page?limit=20&userId=" + randomUser());
+    }
+
+    @Benchmark
+    public int journalById() throws IOException, InterruptedException {
+        int index = ThreadLocalRandom.current().nextInt(journalIds.size());
+        return get("/journals/" + journalIds.get(index) + "?userId=bench_load_" + index / JOURNALS_PER_USER);
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + path)).header("x-api-key", API_KEY).build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " answered " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    private static String randomUser() {
+        return "bench_load_" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private List<String> seed() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("delete from users where id like 'bench_load_%'");
+        List<Object[]> users = new ArrayList<>(USERS);
+        List<Object[]> journals = new ArrayList<>(USERS * JOURNALS_PER_USER);
+        List<String> ids = new ArrayList<>(USERS * JOURNALS_PER_USER);
+        String content = "Walked by the river before work, then a long day of meetings. ".repeat(25);
+        for (int user = 0; user < USERS; user++) {
+            String userId = "bench_load_" + user;
+            users.add(new Object[] {userId, "Bench", "User", userId + "@example.com",
+                Timestamp.valueOf(now), Timestamp.valueOf(now)});
+            for (int i = 0; i < JOURNALS_PER_USER; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id.toString());
+                journals.add(new Object[] {id, userId, "Entry " + i, content, Timestamp.valueOf(now.minusHours(i))});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into users (id, first_name, last_name, email, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            users);
+        jdbcTemplate.batchUpdate(
+            "insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)", journals);
+        return ids;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JournalApiLoadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
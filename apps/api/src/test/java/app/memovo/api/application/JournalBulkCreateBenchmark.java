@@ -0,0 +1,112 @@
+package app.memovo.api.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.ApiApplication;
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCreateResult;
+
+/**
+ * Rows per second stored through {@link JournalService#createJournal} one entry
+ * at a time versus {@link JournalService#createJournals} in one batch
+ *
+ * Boots the application against the test H2 database, so absolute numbers are
+ * optimistic; the ratio between the two paths is what matters. Both methods
+ * store {@value #ENTRIES} rows per invocation.
+ *
+ * <pre>
+ * ./mvnw test-compile
+ * java -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     app.memovo.api.application.JournalBulkCreateBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalBulkCreateBenchmark {
+
+    private static final int ENTRIES = 200;
+    private static final String USER_ID = "bench_user";
+
+    private ConfigurableApplicationContext context;
+    private JournalService journalService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+            .run();
+        journalService = context.getBean(JournalService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(
+            "insert into users (id, first_name, last_name, email, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            USER_ID, "Bench", "User", "bench@example.com", LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearJournals() {
+        jdbcTemplate.update("delete from journals");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public void singleEntry() {
+        for (int i = 0; i < ENTRIES; i++) {
+            journalService.createJournal(newJournal(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public List<JournalCreateResult> bulk() {
+        List<Journal> journals = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            journals.add(newJournal(i));
+        }
+        return journalService.createJournals(journals);
+    }
+
+    private static Journal newJournal(int i) {
+        return new Journal(null, USER_ID, "Entry " + i, "Imported content for entry " + i, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JournalBulkCreateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
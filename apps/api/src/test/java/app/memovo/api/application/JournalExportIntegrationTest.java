@@ -0,0 +1,99 @@
+package app.memovo.api.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Exports one million journals from H2 and checks that the heap retained
+ * while the export runs stays flat, i.e. rows are not materialised.
+ */
+@SpringBootTest
+class JournalExportIntegrationTest {
+
+    private static final String USER_ID = "export_user";
+    private static final int ROWS = 1_000_000;
+    private static final int INSERT_BATCH = 10_000;
+    private static final int SAMPLE_EVERY = 250_000;
+    private static final String CONTENT = "x".repeat(200);
+
+    // Materialising 1M rows of ~200 chars would retain several hundred MB
+    private static final long MAX_RETAINED_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+            "insert into users (id, first_name, last_name, email, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            USER_ID, "Export", "User", "export@example.com", Timestamp.valueOf(now), Timestamp.valueOf(now));
+
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int offset = 0; offset < ROWS; offset += INSERT_BATCH) {
+            int batchStart = offset;
+            jdbcTemplate.batchUpdate(
+                "insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        int row = batchStart + i;
+                        ps.setObject(1, new UUID(0, row));
+                        ps.setString(2, USER_ID);
+                        ps.setString(3, "Entry " + row);
+                        ps.setString(4, CONTENT);
+                        ps.setTimestamp(5, Timestamp.valueOf(base.plusSeconds(row)));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return INSERT_BATCH;
+                    }
+                });
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from journals where user_id = ?", USER_ID);
+        jdbcTemplate.update("delete from users where id = ?", USER_ID);
+    }
+
+    @Test
+    void exportJournals_shouldKeepHeapFlat_forOneMillionRows() {
+        long baseline = usedHeapAfterGc();
+        long[] seen = {0};
+        long[] peakGrowth = {0};
+
+        long exported = journalService.exportJournals(USER_ID, journal -> {
+            if (++seen[0] % SAMPLE_EVERY == 0) {
+                peakGrowth[0] = Math.max(peakGrowth[0], usedHeapAfterGc() - baseline);
+            }
+        });
+
+        assertThat(exported).isEqualTo(ROWS);
+        assertThat(peakGrowth[0]).isLessThan(MAX_RETAINED_GROWTH_BYTES);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
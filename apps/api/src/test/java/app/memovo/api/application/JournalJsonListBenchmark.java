@@ -0,0 +1,161 @@
+package app.memovo.api.application;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.ApiApplication;
+import app.memovo.api.controller.dto.JournalResponse;
+import app.memovo.api.controller.mapper.JournalControllerMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Cost of writing the GET /api/v1/journals body for {@value #ENTRIES} entries:
+ * JPA entities mapped to responses and serialised by Jackson, versus JSON
+ * rendered by PostgreSQL and copied through as bytes
+ * (journals.json-passthrough.enabled, turned on here).
+ *
+ * Needs PostgreSQL (the database path does not exist on H2); pass the JDBC
+ * URL as {@code bench.jdbc.url}. Setup fails unless both paths write identical
+ * bytes. Run with {@code -prof gc} for the allocation per operation.
+ *
+ * <pre>
+ * ./mvnw test-compile
+ * java -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/memovo -Dbench.user=postgres -Dbench.password=postgres \
+ *     -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     app.memovo.api.application.JournalJsonListBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalJsonListBenchmark {
+
+    private static final int ENTRIES = 1_000;
+    private static final String USER_ID = "bench_json_user";
+
+    private ConfigurableApplicationContext context;
+    private JournalService journalService;
+    private JournalControllerMapper mapper;
+    private JsonMapper jsonMapper;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("Set -Dbench.jdbc.url to a PostgreSQL database");
+        }
+        // System properties win over the H2 settings in the test application.properties
+        System.setProperty("spring.datasource.url", url);
+        System.setProperty("spring.datasource.driverClassName", "org.postgresql.Driver");
+        System.setProperty("spring.datasource.username", System.getProperty("bench.user", "postgres"));
+        System.setProperty("spring.datasource.password", System.getProperty("bench.password", ""));
+        System.setProperty("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+
+        context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.main.banner-mode=off", "logging.level.root=WARN",
+                "journals.json-passthrough.enabled=true")
+            .run();
+        journalService = context.getBean(JournalService.class);
+        mapper = context.getBean(JournalControllerMapper.class);
+        jsonMapper = context.getBean(JsonMapper.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (!journalService.canWriteJournalsAsJson()) {
+            throw new IllegalStateException("JSON pass-through is not available on " + url);
+        }
+
+        seed();
+
+        ByteArrayOutputStream viaJackson = new ByteArrayOutputStream();
+        ByteArrayOutputStream viaDatabase = new ByteArrayOutputStream();
+        // The pass-through writes newest first; the list comes in no particular order
+        jsonMapper.writeValue(viaJackson, responses().stream()
+            .sorted(Comparator.comparing(JournalResponse::createdAt).thenComparing(JournalResponse::id).reversed())
+            .toList());
+        journalService.writeJournalsAsJson(USER_ID, viaDatabase);
+        if (!Arrays.equals(viaJackson.toByteArray(), viaDatabase.toByteArray())) {
+            throw new IllegalStateException("Database JSON differs from Jackson output");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("delete from users where id = ?", USER_ID);
+        context.close();
+    }
+
+    @Benchmark
+    public void jpaAndJackson() {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), responses());
+    }
+
+    @Benchmark
+    public long databaseJson() throws IOException {
+        return journalService.writeJournalsAsJson(USER_ID, OutputStream.nullOutputStream());
+    }
+
+    private List<JournalResponse> responses() {
+        return journalService.getJournalsByUserId(USER_ID).stream().map(mapper::toResponse).toList();
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("delete from users where id = ?", USER_ID);
+        jdbcTemplate.update(
+            "insert into users (id, first_name, last_name, email, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            USER_ID, "Bench", "User", "bench-json@example.com", Timestamp.valueOf(now), Timestamp.valueOf(now));
+
+        // Realistic entries, including text that needs escaping and non-ASCII characters
+        String content = "Morning pages. Walked by the river, \"quiet\" today; coffee at 7:30 ☕\n"
+            + "Thoughts on work:\n\t- ship the release\n\t- call Anaïs\\Zoë about the trip\u0007\n".repeat(4);
+        List<Object[]> rows = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            rows.add(new Object[] {
+                new UUID(0, i), USER_ID, "Entry " + i,
+                i % 10 == 0 ? null : content,
+                Timestamp.valueOf(now.minusMinutes(i).withNano((i % 7) * 10_000_000))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)", rows);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JournalJsonListBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
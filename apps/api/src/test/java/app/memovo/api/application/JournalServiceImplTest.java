@@ -3,9 +3,19 @@ package app.memovo.api.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -18,7 +28,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalBatch;
+import app.memovo.api.domain.model.JournalCreateResult;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalHeatmap;
+import app.memovo.api.domain.model.JournalPage;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.JournalSummaryPage;
+import app.memovo.api.domain.port.IdGenerator;
+import app.memovo.api.domain.port.JournalJsonRepository;
 import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.exception.InvalidJournalFilterException;
 import app.memovo.api.security.ForbiddenException;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +49,15 @@ class JournalServiceImplTest {
     @Mock
     private JournalRepository journalRepository;
 
+    @Mock
+    private JournalJsonRepository journalJsonRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IdGenerator idGenerator;
+
     @InjectMocks
     private JournalServiceImpl journalService;
 
@@ -41,6 +72,79 @@ class JournalServiceImplTest {
         existingJournal.setUserId("user_123");
     }
 
+    @Test
+    void createJournal_shouldAssignGeneratedIdAndTimestamp() {
+        // Arrange
+        Journal journal = new Journal(null, "user_123", "Title", "Content", null);
+        when(idGenerator.newId()).thenReturn("0190f2a4-1b2c-7d3e-8f40-123456789abc");
+        when(journalRepository.insert(journal)).thenReturn(journal);
+
+        // Act
+        Journal result = journalService.createJournal(journal);
+
+        // Assert
+        assertThat(result.getId()).isEqualTo("0190f2a4-1b2c-7d3e-8f40-123456789abc");
+        assertThat(result.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createJournals_shouldInsertValidEntriesOnce_andReportEachInRequestOrder() {
+        // Arrange
+        Journal valid = new Journal(null, "user_123", "Title", "Content", null);
+        Journal missingTitle = new Journal(null, "user_123", " ", "Content", null);
+        Journal unknownUser = new Journal(null, "ghost", "Title", "Content", null);
+        Journal alsoValid = new Journal(null, "user_123", "Title 2", "Content 2", null);
+
+        when(userRepository.existsById("user_123")).thenReturn(true);
+        when(userRepository.existsById("ghost")).thenReturn(false);
+        when(idGenerator.newId()).thenReturn("id_1", "id_2");
+        when(journalRepository.insertAll(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.getArgument(0, List.class)));
+
+        // Act
+        List<JournalCreateResult> results =
+            journalService.createJournals(Arrays.asList(valid, missingTitle, unknownUser, null, alsoValid));
+
+        // Assert
+        assertThat(results).extracting(JournalCreateResult::index).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).extracting(JournalCreateResult::isCreated).containsExactly(true, false, false, false, true);
+        assertThat(results.get(1).error()).isEqualTo("title is required");
+        assertThat(results.get(2).error()).contains("ghost");
+        assertThat(results.get(3).error()).isEqualTo("Entry is required");
+        assertThat(results.get(0).journal().getId()).isEqualTo("id_1");
+        assertThat(results.get(4).journal().getId()).isEqualTo("id_2");
+        assertThat(results.get(0).journal().getCreatedAt()).isNotNull();
+        verify(journalRepository).insertAll(List.of(valid, alsoValid));
+        // Owners are looked up once per distinct user, not once per entry
+        verify(userRepository, times(1)).existsById("user_123");
+    }
+
+    @Test
+    void createJournals_shouldSkipInsert_whenNoEntryIsValid() {
+        // Arrange
+        Journal invalid = new Journal(null, null, "Title", "Content", null);
+
+        // Act
+        List<JournalCreateResult> results = journalService.createJournals(List.of(invalid));
+
+        // Assert
+        assertThat(results).singleElement().satisfies(result -> assertThat(result.error()).isEqualTo("userId is required"));
+        verifyNoInteractions(journalRepository);
+    }
+
+    @Test
+    void createJournals_shouldReject_whenOverBulkLimit() {
+        // Arrange
+        List<Journal> tooMany = new ArrayList<>();
+        for (int i = 0; i <= JournalService.MAX_BULK_SIZE; i++) {
+            tooMany.add(new Journal());
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> journalService.createJournals(tooMany))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void updateJournal_shouldUpdateOnlyProvidedFields() {
         // Arrange
@@ -59,10 +163,48 @@ class JournalServiceImplTest {
         assertThat(result.getUserId()).isEqualTo("user_123");
     }
 
+    @Test
+    void patchJournal_shouldReturnRepositoryResult() {
+        // Arrange
+        Journal changes = new Journal(null, null, "New Title", null, null);
+        Journal patched = new Journal("journal_123", "user_123", "New Title", "Old Content", null);
+        when(journalRepository.patch("journal_123", "user_123", changes)).thenReturn(Optional.of(patched));
+
+        // Act
+        Journal result = journalService.patchJournal("journal_123", "user_123", changes);
+
+        // Assert
+        assertThat(result).isSameAs(patched);
+    }
+
+    @Test
+    void patchJournal_shouldThrowNoSuchElementException_whenNotFound() {
+        // Arrange
+        Journal changes = new Journal(null, null, "New Title", null, null);
+        when(journalRepository.patch("non_existent", "user_123", changes)).thenReturn(Optional.empty());
+        when(journalRepository.existsById("non_existent")).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> journalService.patchJournal("non_existent", "user_123", changes))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void patchJournal_shouldThrowForbiddenException_whenOwnedByAnotherUser() {
+        // Arrange
+        Journal changes = new Journal(null, "wrong_user", "New Title", null, null);
+        when(journalRepository.patch("journal_123", "wrong_user", changes)).thenReturn(Optional.empty());
+        when(journalRepository.existsById("journal_123")).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> journalService.patchJournal("journal_123", "wrong_user", changes))
+            .isInstanceOf(ForbiddenException.class);
+    }
+
     @Test
     void getJournalById_shouldReturnJournal_whenUserMatches() {
         // Arrange
-        when(journalRepository.findById("journal_123")).thenReturn(Optional.of(existingJournal));
+        when(journalRepository.findByIdForUser("journal_123", "user_123")).thenReturn(Optional.of(existingJournal));
 
         // Act
         Journal result = journalService.getJournalById("journal_123", "user_123");
@@ -75,7 +217,8 @@ class JournalServiceImplTest {
     @Test
     void getJournalById_shouldThrowForbiddenException_whenUserMismatch() {
         // Arrange
-        when(journalRepository.findById("journal_123")).thenReturn(Optional.of(existingJournal));
+        Journal foreign = new Journal("journal_123", "user_123", null, null, null);
+        when(journalRepository.findByIdForUser("journal_123", "wrong_user")).thenReturn(Optional.of(foreign));
 
         // Act & Assert
         assertThatThrownBy(() -> journalService.getJournalById("journal_123", "wrong_user"))
@@ -85,7 +228,7 @@ class JournalServiceImplTest {
     @Test
     void getJournalById_shouldThrowNoSuchElementException_whenNotFound() {
         // Arrange
-        when(journalRepository.findById("non_existent")).thenReturn(Optional.empty());
+        when(journalRepository.findByIdForUser("non_existent", "user_123")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> journalService.getJournalById("non_existent", "user_123"))
@@ -106,24 +249,238 @@ class JournalServiceImplTest {
     }
 
     @Test
-    void deleteJournal_shouldDelete_whenExists() {
+    void getJournalPage_shouldReportMoreAndCursor_whenExtraRowReturned() {
         // Arrange
-        when(journalRepository.existsById("journal_123")).thenReturn(true);
+        Journal newest = new Journal("j_3", "user_123", "T3", "C3", LocalDateTime.of(2025, 1, 3, 0, 0));
+        Journal middle = new Journal("j_2", "user_123", "T2", "C2", LocalDateTime.of(2025, 1, 2, 0, 0));
+        Journal oldest = new Journal("j_1", "user_123", "T1", "C1", LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(journalRepository.findPageByUserId(eq("user_123"), isNull(), eq(3)))
+            .thenReturn(List.of(newest, middle, oldest));
+
+        // Act
+        JournalPage page = journalService.getJournalPage("user_123", null, 2);
+
+        // Assert
+        assertThat(page.items()).containsExactly(newest, middle);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new JournalCursor(middle.getCreatedAt(), "j_2"));
+    }
+
+    @Test
+    void getJournalPage_shouldCapPageSize_andEndWithoutCursor() {
+        // Arrange
+        when(journalRepository.findPageByUserId("user_123", null, JournalService.MAX_PAGE_SIZE + 1))
+            .thenReturn(List.of(existingJournal));
+
+        // Act
+        JournalPage page = journalService.getJournalPage("user_123", null, 10_000);
+
+        // Assert
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getJournalSummaryPage_shouldClampSnippet_andComputeCursor() {
+        // Arrange
+        JournalSummary newest = new JournalSummary("j_2", "user_123", "T2", LocalDateTime.of(2025, 1, 2, 0, 0), null);
+        JournalSummary oldest = new JournalSummary("j_1", "user_123", "T1", LocalDateTime.of(2025, 1, 1, 0, 0), null);
+        when(journalRepository.findSummaryPageByUserId("user_123", null, 2, JournalService.MAX_SNIPPET_LENGTH))
+            .thenReturn(List.of(newest, oldest));
+
+        // Act
+        JournalSummaryPage page = journalService.getJournalSummaryPage("user_123", null, 1, 100_000);
+
+        // Assert
+        assertThat(page.items()).containsExactly(newest);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new JournalCursor(newest.createdAt(), "j_2"));
+    }
+
+    @Test
+    void exportJournals_shouldDelegateToRepositoryCursor() {
+        // Arrange
+        java.util.function.Consumer<Journal> sink = journal -> { };
+        when(journalRepository.forEachByUserId("user_123", sink)).thenReturn(42L);
 
         // Act
-        journalService.deleteJournal("journal_123");
+        long exported = journalService.exportJournals("user_123", sink);
 
         // Assert
-        verify(journalRepository).deleteById("journal_123");
+        assertThat(exported).isEqualTo(42L);
+    }
+
+    @Test
+    void deleteJournal_shouldDeleteInOneCall_whenOwned() {
+        // Arrange
+        when(journalRepository.deleteByIdAndUserId("journal_123", "user_123")).thenReturn(1);
+
+        // Act
+        journalService.deleteJournal("journal_123", "user_123");
+
+        // Assert
+        verify(journalRepository).deleteByIdAndUserId("journal_123", "user_123");
+        verify(journalRepository, never()).existsById(any());
+    }
+
+    @Test
+    void deleteJournal_shouldThrowForbiddenException_whenOwnedByAnotherUser() {
+        // Arrange
+        when(journalRepository.deleteByIdAndUserId("journal_123", "wrong_user")).thenReturn(0);
+        when(journalRepository.existsById("journal_123")).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> journalService.deleteJournal("journal_123", "wrong_user"))
+            .isInstanceOf(ForbiddenException.class);
     }
 
     @Test
     void deleteJournal_shouldThrowException_whenNotFound() {
         // Arrange
+        when(journalRepository.deleteByIdAndUserId("non_existent", "user_123")).thenReturn(0);
         when(journalRepository.existsById("non_existent")).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> journalService.deleteJournal("non_existent"))
+        assertThatThrownBy(() -> journalService.deleteJournal("non_existent", "user_123"))
             .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void deleteJournals_shouldDeleteByIds_forTheUser() {
+        // Arrange
+        List<String> ids = List.of("journal_1", "journal_2");
+        when(journalRepository.deleteAllByIdsAndUserId(ids, "user_123")).thenReturn(2);
+
+        // Act
+        int deleted = journalService.deleteJournals("user_123", ids, null, null);
+
+        // Assert
+        assertThat(deleted).isEqualTo(2);
+    }
+
+    @Test
+    void deleteJournals_shouldDeleteInclusiveDateRange_asHalfOpenTimestamps() {
+        // Arrange
+        when(journalRepository.deleteAllByUserIdAndCreatedAtBetween(
+            "user_123", LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0))).thenReturn(7);
+
+        // Act
+        int deleted = journalService.deleteJournals(
+            "user_123", null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        // Assert
+        assertThat(deleted).isEqualTo(7);
+    }
+
+    @Test
+    void deleteJournals_shouldRejectAmbiguousOrIncompleteFilters() {
+        LocalDate day = LocalDate.of(2024, 1, 1);
+
+        assertThatThrownBy(() -> journalService.deleteJournals("user_123", List.of(), null, null))
+            .isInstanceOf(InvalidJournalFilterException.class);
+        assertThatThrownBy(() -> journalService.deleteJournals("user_123", List.of("journal_1"), day, day))
+            .isInstanceOf(InvalidJournalFilterException.class);
+        assertThatThrownBy(() -> journalService.deleteJournals("user_123", null, day, null))
+            .isInstanceOf(InvalidJournalFilterException.class);
+        assertThatThrownBy(() -> journalService.deleteJournals("user_123", null, day.plusDays(1), day))
+            .isInstanceOf(InvalidJournalFilterException.class);
+        assertThatThrownBy(() -> journalService.deleteJournals(
+                "user_123", java.util.Collections.nCopies(JournalService.MAX_BULK_SIZE + 1, "journal_1"), null, null))
+            .isInstanceOf(InvalidJournalFilterException.class);
+        verifyNoInteractions(journalRepository);
+    }
+
+    @Test
+    void getJournalsByUserId_shouldQueryInclusiveDateRange() {
+        // Arrange
+        LocalDate day = LocalDate.of(2025, 3, 14);
+        List<Journal> journals = List.of(existingJournal);
+        when(journalRepository.findByUserIdAndCreatedAtBetween(
+            "user_123", day.atStartOfDay(), day.plusDays(1).atStartOfDay())).thenReturn(journals);
+
+        // Act & Assert
+        assertThat(journalService.getJournalsByUserId("user_123", day, day)).isSameAs(journals);
+        assertThatThrownBy(() -> journalService.getJournalsByUserId("user_123", day, day.minusDays(1)))
+            .isInstanceOf(InvalidJournalFilterException.class);
+    }
+
+    @Test
+    void getJournalHeatmap_shouldFillEveryDayOfTheMonth() {
+        // Arrange
+        when(journalRepository.countByUserIdPerDay(
+            "user_123", LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 1, 0, 0)))
+            .thenReturn(List.of(
+                new JournalDayCount(LocalDate.of(2024, 2, 1), 2),
+                new JournalDayCount(LocalDate.of(2024, 2, 29), 3)));
+
+        // Act
+        JournalHeatmap heatmap = journalService.getJournalHeatmap("user_123", 2024, 2);
+
+        // Assert
+        assertThat(heatmap.from()).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(heatmap.to()).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(heatmap.total()).isEqualTo(5);
+        assertThat(heatmap.counts()).hasSize(29);
+        assertThat(heatmap.counts().get(0)).isEqualTo(2);
+        assertThat(heatmap.counts().get(28)).isEqualTo(3);
+        assertThat(heatmap.counts().subList(1, 28)).containsOnly(0);
+    }
+
+    @Test
+    void getJournalHeatmap_shouldCoverTheWholeYear_whenNoMonthGiven() {
+        // Arrange
+        when(journalRepository.countByUserIdPerDay(
+            "user_123", LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)))
+            .thenReturn(List.of());
+
+        // Act
+        JournalHeatmap heatmap = journalService.getJournalHeatmap("user_123", 2025, null);
+
+        // Assert
+        assertThat(heatmap.counts()).hasSize(365);
+        assertThat(heatmap.total()).isZero();
+        assertThatThrownBy(() -> journalService.getJournalHeatmap("user_123", 2025, 13))
+            .isInstanceOf(InvalidJournalFilterException.class);
+    }
+
+    @Test
+    void getJournalsByIds_shouldKeepRequestOrder_andReportMissingIds() {
+        // Arrange
+        Journal first = new Journal("journal_1", "user_123", "First", "Content", null);
+        Journal third = new Journal("journal_3", "user_123", "Third", "Content", null);
+        when(journalRepository.findAllByIds(any(), eq("user_123"))).thenReturn(List.of(first, third));
+
+        // Act
+        JournalBatch batch = journalService.getJournalsByIds(
+            "user_123", List.of("journal_3", "journal_2", "journal_1", "journal_3"));
+
+        // Assert
+        assertThat(batch.journals()).containsExactly(third, first);
+        assertThat(batch.missingIds()).containsExactly("journal_2");
+        verify(journalRepository).findAllByIds(
+            new java.util.LinkedHashSet<>(List.of("journal_3", "journal_2", "journal_1")), "user_123");
+    }
+
+    @Test
+    void getJournalsByIds_shouldRejectTooManyIds() {
+        List<String> ids = java.util.Collections.nCopies(JournalService.MAX_BATCH_GET_SIZE + 1, "journal_1");
+
+        assertThatThrownBy(() -> journalService.getJournalsByIds("user_123", ids))
+            .isInstanceOf(InvalidJournalFilterException.class);
+        verifyNoInteractions(journalRepository);
+    }
+
+    @Test
+    void writeJournalsAsJson_shouldDelegateToDatabaseRendering() throws Exception {
+        // Arrange
+        java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+        when(journalJsonRepository.isAvailable()).thenReturn(true);
+        when(journalJsonRepository.writeByUserId("user_123", out)).thenReturn(3L);
+
+        // Act & Assert
+        assertThat(journalService.canWriteJournalsAsJson()).isTrue();
+        assertThat(journalService.writeJournalsAsJson("user_123", out)).isEqualTo(3);
+        verifyNoInteractions(journalRepository);
+    }
 }
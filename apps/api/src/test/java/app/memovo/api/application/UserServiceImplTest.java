@@ -6,12 +6,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.model.UserPurge;
+import app.memovo.api.domain.port.JournalRepository;
 import app.memovo.api.domain.port.UserRepository;
 import app.memovo.api.exception.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -24,26 +26,31 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private JournalRepository journalRepository;
+
     private UserServiceImpl userService;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
+        // Purges run on the calling thread so their outcome can be asserted directly
+        userService = new UserServiceImpl(userRepository, journalRepository, 100, Runnable::run);
         testUser = new User("user_123", "John", "Doe", "john.doe@example.com", null, null);
     }
 
     @Test
-    void createUser_shouldSaveUserWithTimestamps() {
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+    void createUser_shouldInsertUserWithTimestamps() {
+        when(userRepository.insert(any(User.class))).thenReturn(testUser);
 
         User createdUser = userService.createUser(testUser);
 
         assertThat(createdUser).isNotNull();
         assertThat(testUser.getCreatedAt()).isNotNull();
         assertThat(testUser.getUpdatedAt()).isNotNull();
-        verify(userRepository).save(testUser);
+        verify(userRepository).insert(testUser);
+        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -78,19 +85,71 @@ class UserServiceImplTest {
     }
 
     @Test
-    void deleteUser_shouldDeleteWhenUserExists() {
-        when(userRepository.findById("user_123")).thenReturn(Optional.of(testUser));
+    void deleteUser_shouldDeleteJournalsInChunks_thenTheUser() {
+        when(userRepository.existsById("user_123")).thenReturn(true);
+        when(journalRepository.deleteChunkByUserId("user_123", 100)).thenReturn(100, 100, 30, 0);
 
         userService.deleteUser("user_123");
 
-        verify(userRepository).deleteById("user_123");
+        InOrder inOrder = inOrder(journalRepository, userRepository);
+        inOrder.verify(journalRepository, times(4)).deleteChunkByUserId("user_123", 100);
+        inOrder.verify(userRepository).deleteById("user_123");
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     void deleteUser_shouldThrowExceptionWhenUserNotFound() {
-        when(userRepository.findById("user_nonexistent")).thenReturn(Optional.empty());
+        when(userRepository.existsById("user_nonexistent")).thenReturn(false);
 
         assertThatThrownBy(() -> userService.deleteUser("user_nonexistent"))
                 .isInstanceOf(UserNotFoundException.class);
+        verifyNoInteractions(journalRepository);
+    }
+
+    @Test
+    void startUserPurge_shouldReportProgressAndCompletion() {
+        when(userRepository.existsById("user_123")).thenReturn(true);
+        when(journalRepository.countByUserId("user_123")).thenReturn(230L);
+        when(journalRepository.deleteChunkByUserId("user_123", 100)).thenReturn(100, 100, 30, 0);
+
+        UserPurge started = userService.startUserPurge("user_123");
+
+        assertThat(started.state()).isEqualTo(UserPurge.State.RUNNING);
+        assertThat(started.journalsTotal()).isEqualTo(230);
+        assertThat(userService.getUserPurge("user_123")).hasValueSatisfying(purge -> {
+            assertThat(purge.state()).isEqualTo(UserPurge.State.COMPLETED);
+            assertThat(purge.journalsDeleted()).isEqualTo(230);
+            assertThat(purge.finishedAt()).isNotNull();
+        });
+        verify(userRepository).deleteById("user_123");
+    }
+
+    @Test
+    void startUserPurge_shouldRecordFailure() {
+        when(userRepository.existsById("user_123")).thenReturn(true);
+        when(journalRepository.deleteChunkByUserId("user_123", 100))
+                .thenReturn(100)
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        userService.startUserPurge("user_123");
+
+        assertThat(userService.getUserPurge("user_123")).hasValueSatisfying(purge -> {
+            assertThat(purge.state()).isEqualTo(UserPurge.State.FAILED);
+            assertThat(purge.journalsDeleted()).isEqualTo(100);
+            assertThat(purge.error()).isEqualTo("connection lost");
+        });
+        verify(userRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void startUserPurge_shouldReturnRunningPurge_insteadOfStartingAnother() {
+        userService = new UserServiceImpl(userRepository, journalRepository, 100, task -> { });
+        when(userRepository.existsById("user_123")).thenReturn(true);
+
+        UserPurge first = userService.startUserPurge("user_123");
+        UserPurge second = userService.startUserPurge("user_123");
+
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).existsById("user_123");
     }
 }
@@ -3,10 +3,16 @@ package app.memovo.api.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,12 +20,30 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import app.memovo.api.application.JournalService;
+import app.memovo.api.controller.dto.JournalBatchResponse;
+import app.memovo.api.controller.dto.JournalBulkDeleteRequest;
+import app.memovo.api.controller.dto.JournalBulkDeleteResponse;
+import app.memovo.api.controller.dto.JournalBulkRequest;
+import app.memovo.api.controller.dto.JournalBulkResponse;
+import app.memovo.api.controller.dto.JournalHeatmapResponse;
+import app.memovo.api.controller.dto.JournalPageResponse;
+import app.memovo.api.controller.dto.JournalRequest;
 import app.memovo.api.controller.dto.JournalResponse;
+import app.memovo.api.controller.dto.JournalSummaryPageResponse;
 import app.memovo.api.controller.dto.JournalUpdateRequest;
 import app.memovo.api.controller.mapper.JournalControllerMapper;
 import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalBatch;
+import app.memovo.api.domain.model.JournalCreateResult;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalHeatmap;
+import app.memovo.api.domain.model.JournalPage;
+import app.memovo.api.domain.model.JournalSummaryPage;
+import tools.jackson.databind.json.JsonMapper;
 
 @ExtendWith(MockitoExtension.class)
 class JournalControllerTest {
@@ -34,22 +58,144 @@ class JournalControllerTest {
     private JournalController journalController;
 
     @Test
-    void getJournals_shouldReturnList() {
+    void getJournals_shouldSerialiseList_whenDatabaseCannotRenderJson() throws Exception {
         // Arrange
+        JournalController listController =
+            new JournalController(journalService, new JournalControllerMapper(), JsonMapper.builder().build());
         String userId = "user_123";
-        Journal journal = new Journal();
-        JournalResponse responseDto = new JournalResponse("j_1", userId, "Title", "Content", null);
+        Journal journal = new Journal("j_1", userId, "Title", null, LocalDateTime.of(2025, 1, 2, 9, 0, 0, 120_000_000));
 
+        when(journalService.canWriteJournalsAsJson()).thenReturn(false);
         when(journalService.getJournalsByUserId(userId)).thenReturn(List.of(journal));
-        when(mapper.toResponse(journal)).thenReturn(responseDto);
 
         // Act
-        ResponseEntity<List<JournalResponse>> response = journalController.getJournals(userId);
+        ResponseEntity<List<JournalResponse>> response =
+            listController.getJournals(userId, null, null, new MockHttpServletResponse());
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(JournalResponse::id).containsExactly("j_1");
+    }
+
+    @Test
+    void getJournals_shouldStreamDatabaseJson_whenAvailable() throws Exception {
+        // Arrange
+        String userId = "user_123";
+        when(journalService.canWriteJournalsAsJson()).thenReturn(true);
+        when(journalService.writeJournalsAsJson(eq(userId), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, java.io.OutputStream.class).write("[]".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<List<JournalResponse>> response = journalController.getJournals(userId, null, null,
+            servletResponse);
+
+        // Assert
+        assertThat(response).isNull();
+        assertThat(servletResponse.getContentType()).isEqualTo(org.springframework.http.MediaType.APPLICATION_JSON_VALUE);
+        assertThat(servletResponse.getContentAsString()).isEqualTo("[]");
+        verify(journalService, never()).getJournalsByUserId(userId);
+    }
+
+    @Test
+    void getJournalPage_shouldDecodeCursorAndReturnPage() {
+        // Arrange
+        String userId = "user_123";
+        JournalCursor cursor = new JournalCursor(null, "j_9");
+        JournalPage page = new JournalPage(List.of(new Journal()), null, false);
+        JournalPageResponse responseDto = new JournalPageResponse(List.of(), null, false);
+
+        when(mapper.decodeCursor("opaque")).thenReturn(cursor);
+        when(journalService.getJournalPage(userId, cursor, 20)).thenReturn(page);
+        when(mapper.toResponse(page)).thenReturn(responseDto);
+
+        // Act
+        ResponseEntity<JournalPageResponse> response = journalController.getJournalPage(userId, "opaque", 20);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(responseDto);
+        verify(journalService).getJournalPage(userId, cursor, 20);
+    }
+
+    @Test
+    void getJournalSummaries_shouldPassSnippetLengthThrough() {
+        // Arrange
+        String userId = "user_123";
+        JournalSummaryPage page = new JournalSummaryPage(List.of(), null, false);
+        JournalSummaryPageResponse responseDto = new JournalSummaryPageResponse(List.of(), null, false);
+
+        when(mapper.decodeCursor(null)).thenReturn(null);
+        when(journalService.getJournalSummaryPage(userId, null, 20, 80)).thenReturn(page);
+        when(mapper.toResponse(page)).thenReturn(responseDto);
+
+        // Act
+        ResponseEntity<JournalSummaryPageResponse> response = journalController.getJournalSummaries(userId, null, 20, 80);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
-        verify(journalService).getJournalsByUserId(userId);
+        assertThat(response.getBody()).isSameAs(responseDto);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createJournals_shouldReturnMultiStatus_whenSomeEntriesFail() {
+        // Arrange
+        JournalController bulkController =
+            new JournalController(journalService, new JournalControllerMapper(), JsonMapper.builder().build());
+        JournalBulkRequest request = new JournalBulkRequest(List.of(
+            new JournalRequest("Title", "Content", "user_123"),
+            new JournalRequest("", "Content", "user_123")));
+        Journal created = new Journal("j_1", "user_123", "Title", "Content", LocalDateTime.of(2025, 1, 1, 9, 0));
+
+        when(journalService.createJournals(any(List.class))).thenReturn(List.of(
+            JournalCreateResult.created(0, created),
+            JournalCreateResult.failed(1, "title is required")));
+
+        // Act
+        ResponseEntity<JournalBulkResponse> response = bulkController.createJournals(request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        assertThat(response.getBody().created()).isEqualTo(1);
+        assertThat(response.getBody().failed()).isEqualTo(1);
+        assertThat(response.getBody().results().get(0).status()).isEqualTo("created");
+        assertThat(response.getBody().results().get(0).journal().id()).isEqualTo("j_1");
+        assertThat(response.getBody().results().get(1).status()).isEqualTo("failed");
+        assertThat(response.getBody().results().get(1).error()).isEqualTo("title is required");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportJournals_shouldStreamOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        JournalController exportController =
+            new JournalController(journalService, new JournalControllerMapper(), JsonMapper.builder().build());
+        Journal first = new Journal("j_2", "user_123", "Second", "B", LocalDateTime.of(2025, 1, 2, 9, 0));
+        Journal second = new Journal("j_1", "user_123", "First", "A", LocalDateTime.of(2025, 1, 1, 9, 0));
+
+        when(journalService.exportJournals(eq("user_123"), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<Journal> sink = invocation.getArgument(1);
+            sink.accept(first);
+            sink.accept(second);
+            return 2L;
+        });
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = exportController.exportJournals("user_123");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{").contains("\"id\":\"j_2\"").contains("\"createdAt\":\"2025-01-02T09:00:00\"");
+        assertThat(lines[1]).startsWith("{").contains("\"id\":\"j_1\"");
+        assertThat(lines[2]).isEmpty();
     }
 
     @Test
@@ -102,16 +248,108 @@ class JournalControllerTest {
         verify(journalService).updateJournal(eq(journalId), any(Journal.class));
     }
 
+    @Test
+    void patchJournal_shouldReturnPatchedEntry() {
+        // Arrange
+        String journalId = "journal_123";
+        JournalUpdateRequest request = new JournalUpdateRequest(null, "New Content", null);
+        Journal changes = new Journal();
+        changes.setContent("New Content");
+        Journal patchedJournal = new Journal(journalId, "user_1", "Title", "New Content", null);
+        JournalResponse responseDto = new JournalResponse(journalId, "user_1", "Title", "New Content", null);
+
+        when(mapper.toDomain(request)).thenReturn(changes);
+        when(journalService.patchJournal(journalId, "user_1", changes)).thenReturn(patchedJournal);
+        when(mapper.toResponse(patchedJournal)).thenReturn(responseDto);
+
+        // Act
+        ResponseEntity<JournalResponse> response = journalController.patchJournal(request, journalId, "user_1");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(responseDto);
+    }
+
     @Test
     void deleteJournal_shouldReturnNoContent() {
         // Arrange
         String journalId = "journal_123";
+        String userId = "user_123";
 
         // Act
-        ResponseEntity<Void> response = journalController.deleteJournal(journalId);
+        ResponseEntity<Void> response = journalController.deleteJournal(journalId, userId);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-        verify(journalService).deleteJournal(journalId);
+        verify(journalService).deleteJournal(journalId, userId);
+    }
+
+    @Test
+    void deleteJournals_shouldReturnDeletedCount() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 6, 30);
+        when(journalService.deleteJournals("user_123", null, from, to)).thenReturn(12);
+
+        // Act
+        ResponseEntity<JournalBulkDeleteResponse> response =
+            journalController.deleteJournals("user_123", new JournalBulkDeleteRequest(null, from, to));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().deleted()).isEqualTo(12);
+    }
+
+    @Test
+    void getJournals_shouldQueryRange_whenDatesGiven() throws Exception {
+        // Arrange
+        JournalController listController =
+            new JournalController(journalService, new JournalControllerMapper(), JsonMapper.builder().build());
+        LocalDate day = LocalDate.of(2025, 3, 14);
+        Journal journal = new Journal("journal_1", "user_123", "Title", "Content", day.atTime(9, 0));
+        when(journalService.getJournalsByUserId("user_123", day, day)).thenReturn(List.of(journal));
+
+        // Act
+        ResponseEntity<List<JournalResponse>> response =
+            listController.getJournals("user_123", day, day, new MockHttpServletResponse());
+
+        // Assert
+        assertThat(response.getBody()).extracting(JournalResponse::id).containsExactly("journal_1");
+        verify(journalService, never()).canWriteJournalsAsJson();
+    }
+
+    @Test
+    void getJournalHeatmap_shouldReturnCounts() {
+        // Arrange
+        JournalHeatmap heatmap = new JournalHeatmap(
+            LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28), 3, java.util.Collections.nCopies(28, 0));
+        JournalHeatmapResponse responseDto = new JournalHeatmapResponse(
+            heatmap.from(), heatmap.to(), heatmap.total(), heatmap.counts());
+        when(journalService.getJournalHeatmap("user_123", 2025, 2)).thenReturn(heatmap);
+        when(mapper.toResponse(heatmap)).thenReturn(responseDto);
+
+        // Act
+        ResponseEntity<JournalHeatmapResponse> response = journalController.getJournalHeatmap("user_123", 2025, 2);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(responseDto);
+    }
+
+    @Test
+    void getJournalsByIds_shouldReturnMappedBatch() {
+        // Arrange
+        JournalBatch batch = new JournalBatch(List.of(), List.of("journal_9"));
+        JournalBatchResponse responseDto = new JournalBatchResponse(List.of(), List.of("journal_9"));
+        when(journalService.getJournalsByIds("user_123", List.of("journal_9"))).thenReturn(batch);
+        when(mapper.toResponse(batch)).thenReturn(responseDto);
+
+        // Act
+        ResponseEntity<JournalBatchResponse> response =
+            journalController.getJournalsByIds("user_123", List.of("journal_9"));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(responseDto);
     }
 }
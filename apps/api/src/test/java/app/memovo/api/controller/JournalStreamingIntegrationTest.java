@@ -0,0 +1,171 @@
+package app.memovo.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streams a large export and full list over HTTP through the whole filter
+ * chain, and checks that only the streamed export runs under the configured
+ * journals.export.timeout rather than the container's default.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "api.key=" + JournalStreamingIntegrationTest.API_KEY,
+    "rate-limit.enabled=false",
+    "journals.export.timeout=PT7M"
+})
+class JournalStreamingIntegrationTest {
+
+    static final String API_KEY = "streaming-test-key";
+    private static final String USER_ID = "streaming_user";
+    private static final int ROWS = 50_000;
+    private static final int INSERT_BATCH = 5_000;
+    private static final String CONTENT = "x".repeat(200);
+
+    // Async timeouts seen by the container, per request path
+    private static final Map<String, Long> ASYNC_TIMEOUTS = new ConcurrentHashMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @TestConfiguration
+    static class AsyncTimeoutRecorder {
+
+        @Bean
+        OncePerRequestFilter asyncTimeoutRecordingFilter() {
+            return new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                FilterChain chain) throws ServletException, IOException {
+                    chain.doFilter(request, response);
+                    if (request.isAsyncStarted()) {
+                        ASYNC_TIMEOUTS.put(request.getRequestURI(), request.getAsyncContext().getTimeout());
+                    }
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+            "insert into users (id, first_name, last_name, email, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            USER_ID, "Streaming", "User", "streaming@example.com", Timestamp.valueOf(now), Timestamp.valueOf(now));
+
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int offset = 0; offset < ROWS; offset += INSERT_BATCH) {
+            int batchStart = offset;
+            jdbcTemplate.batchUpdate(
+                "insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        int row = batchStart + i;
+                        ps.setObject(1, new UUID(0, row));
+                        ps.setString(2, USER_ID);
+                        ps.setString(3, "Entry " + row);
+                        ps.setString(4, CONTENT);
+                        ps.setTimestamp(5, Timestamp.valueOf(base.plusSeconds(row)));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return INSERT_BATCH;
+                    }
+                });
+        }
+        ASYNC_TIMEOUTS.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id = ?", USER_ID);
+    }
+
+    @Test
+    void exportJournals_shouldStreamEveryEntry_underConfiguredTimeout() throws Exception {
+        HttpResponse<InputStream> response = get("/api/v1/journals/export?userId=" + USER_ID);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        int lines = 0;
+        String last = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isEmpty()) {
+                    last = line;
+                    lines++;
+                }
+            }
+        }
+
+        assertThat(lines).isEqualTo(ROWS);
+        // Newest first, so the oldest entry closes the stream
+        assertThat(jsonMapper.readTree(last).get("title").asString()).isEqualTo("Entry 0");
+        assertThat(ASYNC_TIMEOUTS).containsEntry("/api/v1/journals/export", 7 * 60 * 1000L);
+    }
+
+    @Test
+    void getJournals_shouldReturnFullList_withoutGoingAsync() throws Exception {
+        HttpResponse<InputStream> response = get("/api/v1/journals?userId=" + USER_ID);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode journals;
+        try (InputStream body = response.body()) {
+            journals = jsonMapper.readTree(body);
+        }
+
+        assertThat(journals.size()).isEqualTo(ROWS);
+        assertThat(ASYNC_TIMEOUTS).doesNotContainKey("/api/v1/journals");
+    }
+
+    private HttpResponse<InputStream> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("x-api-key", API_KEY)
+                .build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+    }
+}
@@ -1,15 +1,19 @@
 package app.memovo.api.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import app.memovo.api.application.UserService;
+import app.memovo.api.controller.dto.UserPurgeResponse;
 import app.memovo.api.controller.dto.UserRequest;
 import app.memovo.api.controller.dto.UserResponse;
 import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.model.UserPurge;
+import app.memovo.api.exception.UserNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -76,8 +80,29 @@ class UserControllerTest {
 
     @Test
     void deleteUser_shouldReturnNoContent() {
-        userController.deleteUser("user_123");
+        ResponseEntity<UserPurgeResponse> response = userController.deleteUser("user_123", false);
 
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
         verify(userService).deleteUser("user_123");
     }
+
+    @Test
+    void deleteUser_shouldStartPurgeAndReturnAccepted_whenAsync() {
+        when(userService.startUserPurge("user_123")).thenReturn(UserPurge.started("user_123", 42));
+
+        ResponseEntity<UserPurgeResponse> response = userController.deleteUser("user_123", true);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/v1/users/user_123/purge");
+        assertThat(response.getBody().state()).isEqualTo("RUNNING");
+        assertThat(response.getBody().journalsTotal()).isEqualTo(42);
+    }
+
+    @Test
+    void getUserPurge_shouldThrow_whenNoPurgeWasStarted() {
+        when(userService.getUserPurge("user_123")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userController.getUserPurge("user_123"))
+                .isInstanceOf(UserNotFoundException.class);
+    }
 }
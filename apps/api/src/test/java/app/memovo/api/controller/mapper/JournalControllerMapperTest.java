@@ -0,0 +1,65 @@
+package app.memovo.api.controller.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import app.memovo.api.controller.dto.JournalSummaryPageResponse;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.JournalSummaryPage;
+import app.memovo.api.exception.InvalidCursorException;
+
+class JournalControllerMapperTest {
+
+    private static final String JOURNAL_ID = "0190f2a4-1b2c-7d3e-8f40-123456789abc";
+
+    private final JournalControllerMapper mapper = new JournalControllerMapper();
+
+    @Test
+    void cursor_shouldRoundTrip() {
+        JournalCursor cursor = new JournalCursor(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000), JOURNAL_ID);
+
+        String encoded = mapper.encodeCursor(cursor);
+
+        assertThat(encoded).doesNotContain(JOURNAL_ID);
+        assertThat(mapper.decodeCursor(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void decodeCursor_shouldReturnNull_forMissingCursor() {
+        assertThat(mapper.decodeCursor(null)).isNull();
+        assertThat(mapper.decodeCursor(" ")).isNull();
+    }
+
+    @Test
+    void decodeCursor_shouldRejectGarbage() {
+        assertThatThrownBy(() -> mapper.decodeCursor("not-a-cursor!"))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> mapper.decodeCursor(mapper.encodeCursor(new JournalCursor(null, JOURNAL_ID))))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> mapper.decodeCursor(mapper.encodeCursor(new JournalCursor(LocalDateTime.now(), "j_1"))))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void toResponse_shouldMapSummaryPage_withEncodedCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        JournalSummary summary = new JournalSummary(JOURNAL_ID, "user_1", "Title", createdAt, "Snip");
+        JournalSummaryPage page = new JournalSummaryPage(List.of(summary), JournalCursor.of(summary), true);
+
+        JournalSummaryPageResponse response = mapper.toResponse(page);
+
+        assertThat(response.items()).singleElement().satisfies(item -> {
+            assertThat(item.id()).isEqualTo(JOURNAL_ID);
+            assertThat(item.title()).isEqualTo("Title");
+            assertThat(item.snippet()).isEqualTo("Snip");
+        });
+        assertThat(mapper.decodeCursor(response.nextCursor())).isEqualTo(new JournalCursor(createdAt, JOURNAL_ID));
+        assertThat(response.hasMore()).isTrue();
+    }
+}
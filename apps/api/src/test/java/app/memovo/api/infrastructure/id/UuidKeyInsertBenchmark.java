@@ -0,0 +1,123 @@
+package app.memovo.api.infrastructure.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Insert throughput (rows/s) into a uuid primary key with random UUIDv4 keys
+ * versus time-ordered UUIDv7 keys from {@link UuidV7Generator}
+ *
+ * The table is pre-filled with {@code bench.prefill} rows so the index is
+ * already large when measurement starts; random keys then dirty pages all over
+ * the B-tree while v7 keys keep appending to its right edge. The effect only
+ * shows on a real server, so point {@code bench.jdbc.url} at a scratch Postgres
+ * database (the default in-memory H2 just checks the benchmark runs).
+ *
+ * <pre>
+ * ./mvnw test-compile
+ * java -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench -Dbench.user=postgres -Dbench.password=postgres \
+ *     -Dbench.prefill=2000000 \
+ *     -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     app.memovo.api.infrastructure.id.UuidKeyInsertBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidKeyInsertBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final String PAYLOAD = "x".repeat(200);
+
+    @Param({"v4", "v7"})
+    public String keys;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> nextKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("bench.jdbc.url", "jdbc:h2:mem:uuid_bench;MODE=PostgreSQL"),
+            System.getProperty("bench.user", "sa"),
+            System.getProperty("bench.password", ""));
+        connection.setAutoCommit(false);
+
+        UuidV7Generator v7 = new UuidV7Generator();
+        nextKey = "v7".equals(keys) ? v7::next : UUID::randomUUID;
+
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table if exists uuid_key_bench");
+            ddl.execute("create table uuid_key_bench (id uuid primary key, created_at timestamp not null, payload varchar(255))");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into uuid_key_bench (id, created_at, payload) values (?, ?, ?)");
+
+        long prefill = Long.getLong("bench.prefill", 200_000L);
+        for (long done = 0; done < prefill; done += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table uuid_key_bench");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, nextKey.get());
+            insert.setTimestamp(2, now);
+            insert.setString(3, PAYLOAD);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UuidKeyInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
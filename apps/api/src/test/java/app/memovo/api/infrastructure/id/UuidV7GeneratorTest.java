@@ -0,0 +1,73 @@
+package app.memovo.api.infrastructure.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+    private final UuidV7Generator generator = new UuidV7Generator(millis::get, new Random(42));
+
+    @Test
+    void next_shouldSetVersionVariantAndTimestamp() {
+        UUID id = generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void next_shouldBeStrictlyIncreasing_withinOneMillisecond_andWhenClockStepsBack() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                millis.addAndGet(-1_000);
+            }
+            ids.add(generator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    void next_shouldAdvanceTimestamp_whenCounterOverflows() {
+        UUID last = null;
+        for (int i = 0; i < 4_096; i++) {
+            last = generator.next();
+        }
+
+        assertThat(last.getMostSignificantBits() >>> 16).isGreaterThan(1_700_000_000_000L);
+    }
+
+    @Test
+    void newId_shouldBeUnique_acrossThreads() throws InterruptedException {
+        UuidV7Generator shared = new UuidV7Generator();
+        Set<String> ids = java.util.concurrent.ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(shared.newId());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(ids).hasSize(40_000);
+        assertThat(new HashSet<>(ids)).allSatisfy(id -> assertThat(UUID.fromString(id).version()).isEqualTo(7));
+    }
+}
@@ -0,0 +1,119 @@
+package app.memovo.api.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestClient;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.infrastructure.persistence.datasource.ConnectionHoldTimeDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "api.key=metrics-test-key",
+    "rate-limit.enabled=false",
+    "management.metrics.distribution.percentiles-histogram.hikaricp.connections=true"
+})
+class ConnectionMetricsIntegrationTest {
+
+    private static final String USER = "metrics_user";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private List<MeterFilter> meterFilters;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = RestClient.builder()
+            .baseUrl("http://localhost:" + port + "/api/v1")
+            .defaultHeader("x-api-key", "metrics-test-key")
+            .build();
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.save(new User(USER, "Metrics", "User", USER + "@example.com", now, now));
+        for (int i = 0; i < 3; i++) {
+            journalRepository.save(new Journal(UUID.randomUUID().toString(), USER, "Title " + i, "Content " + i, now.minusMinutes(i)));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id = ?", USER);
+    }
+
+    @Test
+    void openInView_shouldBeOff() {
+        assertThat(context.containsBean("openEntityManagerInViewInterceptor")).isFalse();
+    }
+
+    @Test
+    void requests_shouldRecordConnectionHoldTime_perEndpoint() {
+        client.get().uri("/journals/page?userId={userId}", USER).retrieve().toBodilessEntity();
+
+        Timer timer = meterRegistry.get(ConnectionHoldTimeDataSource.METRIC)
+            .tags("pool", "primary", "method", "GET", "uri", "/api/v1/journals/page")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void streamedResponses_shouldAttributeTheirConnection_toTheEndpoint() {
+        String body = client.get().uri("/journals/export?userId={userId}", USER).retrieve().body(String.class);
+
+        assertThat(body.lines().filter(line -> !line.isBlank())).hasSize(3);
+        assertThat(meterRegistry.get(ConnectionHoldTimeDataSource.METRIC)
+            .tags("method", "GET", "uri", "/api/v1/journals/export")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void pool_shouldPublishAcquireTime() {
+        client.get().uri("/journals/page?userId={userId}", USER).retrieve().toBodilessEntity();
+
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", "primary").timer();
+        assertThat(acquire.count()).isPositive();
+        // The test registry keeps no buckets, so check what the configured filters ask for
+        DistributionStatisticConfig config = DistributionStatisticConfig.DEFAULT;
+        for (MeterFilter filter : meterFilters) {
+            config = filter.configure(acquire.getId(), config);
+        }
+        assertThat(config.isPercentileHistogram()).isTrue();
+    }
+}
@@ -0,0 +1,71 @@
+package app.memovo.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import app.memovo.api.exception.StatementTimeoutException;
+
+class PersistenceSupportTest {
+
+    private static final UUID ID = UUID.fromString("0190f3a2-7c1e-7000-8000-000000000001");
+
+    @Test
+    void parseId_shouldBeEmpty_forNullOrNonUuidIds() {
+        // Arrange, Act & Assert
+        assertThat(PersistenceSupport.parseId(ID.toString())).contains(ID);
+        assertThat(PersistenceSupport.parseId(null)).isEmpty();
+        assertThat(PersistenceSupport.parseId("not-a-uuid")).isEmpty();
+    }
+
+    @Test
+    void parseIds_shouldSkipInvalidIds_andKeepFirstOccurrences() {
+        // Arrange
+        UUID other = UUID.fromString("0190f3a2-7c1e-7000-8000-000000000002");
+
+        // Act
+        List<UUID> ids = PersistenceSupport.parseIds(List.of(other.toString(), "x", ID.toString(), other.toString()));
+
+        // Assert
+        assertThat(ids).containsExactly(other, ID);
+    }
+
+    @Test
+    void queryTimeoutSeconds_shouldRoundUp_toAtLeastOneSecond() {
+        // Arrange, Act & Assert
+        assertThat(PersistenceSupport.queryTimeoutSeconds(Duration.ofMillis(1))).isEqualTo(1);
+        assertThat(PersistenceSupport.queryTimeoutSeconds(Duration.ZERO)).isEqualTo(1);
+        assertThat(PersistenceSupport.queryTimeoutSeconds(Duration.ofMillis(5_001))).isEqualTo(6);
+        assertThat(PersistenceSupport.queryTimeoutSeconds(Duration.ofSeconds(5))).isEqualTo(5);
+    }
+
+    @Test
+    void deleteFailure_shouldReportStatementTimeout_whenPostgresCancelledTheStatement() {
+        // Arrange
+        RuntimeException cancelled = new DataAccessResourceFailureException("cancelled",
+            new SQLException("canceling statement due to user request", "57014"));
+
+        // Act
+        RuntimeException failure = PersistenceSupport.deleteFailure(cancelled, 5);
+
+        // Assert
+        assertThat(failure).isInstanceOf(StatementTimeoutException.class).hasCause(cancelled)
+            .hasMessageContaining("5s per chunk");
+    }
+
+    @Test
+    void deleteFailure_shouldKeepOtherFailures() {
+        // Arrange
+        RuntimeException broken = new DataAccessResourceFailureException("connection lost",
+            new SQLException("connection lost", "08006"));
+
+        // Act & Assert
+        assertThat(PersistenceSupport.deleteFailure(broken, 5)).isSameAs(broken);
+    }
+}
@@ -0,0 +1,236 @@
+package app.memovo.api.infrastructure.persistence.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.domain.port.UserRepository;
+
+@SpringBootTest(properties = {
+    "journals.archive.enabled=true",
+    "journals.archive.older-than=365d",
+    "journals.archive.chunk-size=2"
+})
+class JournalArchiverIntegrationTest {
+
+    private static final String USER_A = "archive_user_a";
+    private static final String USER_B = "archive_user_b";
+    private static final String CONTENT = "An old entry about an ordinary day. ".repeat(20);
+
+    @Autowired
+    private JournalArchiver archiver;
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        saveUser(USER_A);
+        saveUser(USER_B);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id in (?, ?)", USER_A, USER_B);
+        jdbcTemplate.update("""
+                update journal_archive_checkpoint
+                set archived_before = null, run_cutoff = null, run_after_user = null, leased_until = null
+                where id = 1
+                """);
+    }
+
+    @Test
+    void run_shouldMoveOldContentToTheArchive_inChunks_andLeaveStubs() {
+        List<String> old = saveJournals(USER_A, 5, now.minusYears(2));
+        String recent = saveJournal(USER_A, now.minusDays(1), CONTENT);
+
+        assertThat(archiver.run()).isEqualTo(5);
+
+        assertThat(hotContent(old.getFirst())).isNull();
+        assertThat(hotContent(recent)).isEqualTo(CONTENT);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from journal_archive where entry_id in ("
+            + String.join(",", old.stream().map(id -> "'" + id + "'").toList()) + ")", Integer.class)).isEqualTo(5);
+        byte[] stored = jdbcTemplate.queryForObject(
+            "select content from journal_archive where entry_id = ?", byte[].class, UUID.fromString(old.getFirst()));
+        assertThat(stored.length).isLessThan(CONTENT.length() / 4);
+        assertThat(checkpoint("run_cutoff")).isNull();
+        assertThat(checkpoint("archived_before")).isNotNull();
+    }
+
+    @Test
+    void reads_shouldReturnArchivedContent() {
+        String id = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        saveJournal(USER_A, now.minusDays(1), "Recent");
+        archiver.run();
+
+        assertThat(journalRepository.findById(id).orElseThrow().getContent()).isEqualTo(CONTENT);
+        assertThat(journalRepository.findByIdForUser(id, USER_A).orElseThrow().getContent()).isEqualTo(CONTENT);
+        assertThat(journalRepository.findByIdForUser(id, USER_B).orElseThrow().getContent()).isNull();
+        assertThat(journalRepository.findAllByIds(List.of(id), USER_A)).extracting(Journal::getContent)
+            .containsExactly(CONTENT);
+        assertThat(journalRepository.findByUserId(USER_A)).extracting(Journal::getContent)
+            .containsExactlyInAnyOrder("Recent", CONTENT);
+        assertThat(journalRepository.findByUserIdAndCreatedAtBetween(USER_A, now.minusYears(3), now.minusYears(1)))
+            .extracting(Journal::getContent).containsExactly(CONTENT);
+        List<Journal> firstPage = journalRepository.findPageByUserId(USER_A, null, 1);
+        Journal last = firstPage.getFirst();
+        assertThat(journalRepository.findPageByUserId(USER_A, new JournalCursor(last.getCreatedAt(), last.getId()), 1))
+            .extracting(Journal::getContent).containsExactly(CONTENT);
+        assertThat(journalRepository.findSummaryPageByUserId(USER_A, null, 10, 10)).extracting(JournalSummary::snippet)
+            .containsExactly("Recent", CONTENT.substring(0, 10));
+        assertThat(journalRepository.findSummaryPageByUserId(USER_A, null, 10, 0)).extracting(JournalSummary::snippet)
+            .containsOnlyNulls();
+
+        List<String> exported = new ArrayList<>();
+        journalRepository.forEachByUserId(USER_A, journal -> exported.add(journal.getContent()));
+        assertThat(exported).containsExactly("Recent", CONTENT);
+    }
+
+    @Test
+    void patch_shouldKeepArchivedContent_whenOnlyTheTitleChanges() {
+        String id = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        archiver.run();
+
+        Journal patched = journalRepository.patch(id, USER_A, new Journal(null, null, "Renamed", null, null)).orElseThrow();
+
+        assertThat(patched.getTitle()).isEqualTo("Renamed");
+        assertThat(patched.getContent()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void update_shouldBringAnArchivedJournalBackToTheHotTable() {
+        String id = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        archiver.run();
+
+        Journal journal = journalRepository.findById(id).orElseThrow();
+        journal.setContent("Edited");
+        journalRepository.save(journal);
+
+        assertThat(hotContent(id)).isEqualTo("Edited");
+        assertThat(archivedCopies(id)).isZero();
+        assertThat(journalRepository.findById(id).orElseThrow().getContent()).isEqualTo("Edited");
+
+        // Still older than the cutoff, so the next run archives it again
+        assertThat(archiver.run()).isEqualTo(1);
+        assertThat(hotContent(id)).isNull();
+        assertThat(journalRepository.findById(id).orElseThrow().getContent()).isEqualTo("Edited");
+    }
+
+    @Test
+    void patch_shouldDiscardTheArchivedCopy_whenTheContentChanges() {
+        String id = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        archiver.run();
+
+        Journal patched = journalRepository.patch(id, USER_A, new Journal(null, null, null, "Rewritten", null))
+            .orElseThrow();
+
+        assertThat(patched.getContent()).isEqualTo("Rewritten");
+        assertThat(archivedCopies(id)).isZero();
+
+        assertThat(archiver.run()).isEqualTo(1);
+        assertThat(journalRepository.findByIdForUser(id, USER_A).orElseThrow().getContent()).isEqualTo("Rewritten");
+    }
+
+    @Test
+    void delete_shouldRemoveTheArchivedCopy() {
+        String id = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        archiver.run();
+
+        assertThat(journalRepository.deleteByIdAndUserId(id, USER_A)).isEqualTo(1);
+
+        assertThat(archivedCopies(id)).isZero();
+    }
+
+    @Test
+    void run_shouldResumeAfterTheLastFinishedUser_withTheSameCutoff() {
+        String doneBefore = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        String pending = saveJournal(USER_B, now.minusYears(2), CONTENT);
+        // Created after the interrupted run's cutoff, so it waits for the next run
+        String afterCutoff = saveJournal(USER_B, now.minusDays(400), CONTENT);
+        jdbcTemplate.update("update journal_archive_checkpoint set run_cutoff = ?, run_after_user = ? where id = 1",
+            Timestamp.valueOf(now.minusDays(500)), USER_A);
+
+        archiver.run();
+
+        assertThat(hotContent(doneBefore)).isEqualTo(CONTENT);
+        assertThat(hotContent(pending)).isNull();
+        assertThat(hotContent(afterCutoff)).isEqualTo(CONTENT);
+        assertThat(checkpoint("archived_before")).isEqualTo(Timestamp.valueOf(now.minusDays(500)));
+
+        archiver.run();
+
+        assertThat(hotContent(afterCutoff)).isNull();
+        // Journals before the previous cutoff that still hold content are not skipped
+        assertThat(hotContent(doneBefore)).isNull();
+    }
+
+    @Test
+    void run_shouldDoNothing_whileAnotherInstanceHoldsTheLease() {
+        String id = saveJournal(USER_A, now.minusYears(2), CONTENT);
+        jdbcTemplate.update("update journal_archive_checkpoint set leased_until = ? where id = 1",
+            Timestamp.valueOf(now.plusMinutes(5)));
+
+        assertThat(archiver.run()).isEqualTo(-1);
+
+        assertThat(hotContent(id)).isEqualTo(CONTENT);
+    }
+
+    private String hotContent(String id) {
+        return jdbcTemplate.queryForObject("select content from journals where entry_id = ?", String.class,
+            UUID.fromString(id));
+    }
+
+    private int archivedCopies(String id) {
+        return jdbcTemplate.queryForObject("select count(*) from journal_archive where entry_id = ?",
+            Integer.class, UUID.fromString(id));
+    }
+
+    private Object checkpoint(String column) {
+        return jdbcTemplate.queryForObject("select " + column + " from journal_archive_checkpoint where id = 1",
+            Object.class);
+    }
+
+    private List<String> saveJournals(String userId, int count, LocalDateTime createdAt) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(saveJournal(userId, createdAt.plusMinutes(i), CONTENT));
+        }
+        return ids;
+    }
+
+    private String saveJournal(String userId, LocalDateTime createdAt, String content) {
+        String id = UUID.randomUUID().toString();
+        journalRepository.save(new Journal(id, userId, "Title", content, createdAt));
+        return id;
+    }
+
+    private void saveUser(String id) {
+        userRepository.save(new User(id, "Archive", "User", id + "@example.com", now, now));
+    }
+}
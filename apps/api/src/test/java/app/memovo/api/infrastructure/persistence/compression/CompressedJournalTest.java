@@ -0,0 +1,51 @@
+package app.memovo.api.infrastructure.persistence.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CompressedJournalTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 8, 30);
+
+    @Test
+    void getContent_shouldInflateOnce_onFirstUse() {
+        // Arrange
+        AtomicInteger decodes = new AtomicInteger();
+        byte[] encoded = JournalContentCodec.encode("A long day by the sea.");
+        CompressedJournal journal = new CompressedJournal("id", "user_1", "Sea", () -> {
+            decodes.incrementAndGet();
+            return JournalContentCodec.decode(encoded);
+        }, CREATED_AT);
+
+        // Act
+        String title = journal.getTitle();
+
+        // Assert
+        assertThat(title).isEqualTo("Sea");
+        assertThat(decodes).hasValue(0);
+        assertThat(journal.getContent()).isEqualTo("A long day by the sea.");
+        assertThat(journal.getContent()).isEqualTo("A long day by the sea.");
+        assertThat(decodes).hasValue(1);
+    }
+
+    @Test
+    void setContent_shouldReplaceTheCompressedContent_withoutInflatingIt() {
+        // Arrange
+        AtomicInteger decodes = new AtomicInteger();
+        CompressedJournal journal = new CompressedJournal("id", "user_1", "Sea", () -> {
+            decodes.incrementAndGet();
+            return "Old";
+        }, CREATED_AT);
+
+        // Act
+        journal.setContent("Edited");
+
+        // Assert
+        assertThat(journal.getContent()).isEqualTo("Edited");
+        assertThat(decodes).hasValue(0);
+    }
+}
@@ -0,0 +1,75 @@
+package app.memovo.api.infrastructure.persistence.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class JournalContentCodecTest {
+
+    private static final String LONG = "Walked along the river again, the light on the water was unreal. ".repeat(100);
+
+    private final JournalContentCodec codec = new JournalContentCodec(true, 1000);
+
+    @Test
+    void compress_shouldRoundTrip_withAVersionedHeader() {
+        byte[] encoded = codec.compress(LONG);
+
+        assertThat(encoded[0]).isEqualTo(JournalContentCodec.VERSION);
+        assertThat(encoded[1]).isEqualTo(JournalContentCodec.DEFLATE);
+        assertThat(encoded.length).isLessThan(LONG.length() / 10);
+        assertThat(JournalContentCodec.decode(encoded)).isEqualTo(LONG);
+    }
+
+    @Test
+    void compress_shouldLeaveContentPlain_belowTheThreshold_orWhenDisabled() {
+        assertThat(codec.compress("x".repeat(999))).isNull();
+        assertThat(codec.compress(null)).isNull();
+        assertThat(new JournalContentCodec(false, 0).compress(LONG)).isNull();
+    }
+
+    @Test
+    void compress_shouldLeaveContentPlain_whenItDoesNotShrink() {
+        // Header and deflate framing outweigh anything saved on a few characters
+        assertThat(new JournalContentCodec(true, 0).compress("Rainy.")).isNull();
+    }
+
+    @Test
+    void decode_shouldKeepMultiByteCharacters() {
+        String content = "Café ☕ und Grüße, 日記 🙂 ".repeat(100);
+
+        assertThat(JournalContentCodec.decode(JournalContentCodec.encode(content))).isEqualTo(content);
+    }
+
+    @Test
+    void decodePrefix_shouldReturnTheFirstCharacters() {
+        byte[] encoded = JournalContentCodec.encode(LONG);
+
+        assertThat(JournalContentCodec.decodePrefix(encoded, 12)).isEqualTo(LONG.substring(0, 12));
+        assertThat(JournalContentCodec.decodePrefix(JournalContentCodec.encode("short"), 12)).isEqualTo("short");
+    }
+
+    @Test
+    void decode_shouldRejectUnknownFormats_andTruncatedContent() {
+        byte[] encoded = JournalContentCodec.encode(LONG);
+        byte[] unknownVersion = encoded.clone();
+        unknownVersion[0] = 2;
+
+        assertThatThrownBy(() -> JournalContentCodec.decode(unknownVersion)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> JournalContentCodec.decode(Arrays.copyOf(encoded, encoded.length / 2)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stats_shouldReportTheRatioOfCompressedContent() {
+        codec.compress(LONG);
+        codec.compress("too short");
+
+        JournalContentCodec.Stats stats = codec.stats();
+        assertThat(stats.count()).isEqualTo(1);
+        assertThat(stats.rawBytes()).isEqualTo(LONG.length());
+        assertThat(stats.ratio()).isGreaterThan(10);
+    }
+}
@@ -0,0 +1,267 @@
+package app.memovo.api.infrastructure.persistence.compression;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * CPU cost of JournalContentCodec against the I/O it saves.
+ *
+ * The codec benchmarks encode and decode generated prose of a few sizes, next
+ * to the plain UTF-8 conversion a TEXT column needs anyway. The page benchmarks
+ * read a page of a user's journals on PostgreSQL from a TEXT column and from
+ * a content_compressed column, decoding the latter, so the difference is what
+ * compression costs or saves end to end; they only run when
+ * {@code bench.jdbc.url} is set. Note that Postgres already compresses TEXT
+ * values over ~2 kB in TOAST (pglz), so a TEXT row is smaller on disk than its
+ * content; the setup prints both tables' sizes.
+ *
+ * Run once with {@code -Dbench.seed=true} to create journals_text and
+ * journals_zip with {@code bench.rows} rows (default 100k) of
+ * {@code bench.content-size} characters (default 10k); later runs reuse them.
+ *
+ * <pre>
+ * ./mvnw test-compile
+ * java -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/compression_bench -Dbench.user=postgres -Dbench.password=postgres \
+ *     -Dbench.seed=true \
+ *     -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     app.memovo.api.infrastructure.persistence.compression.JournalContentCompressionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JournalContentCompressionBenchmark {
+
+    private static final int USERS = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SNIPPET_LENGTH = 200;
+
+    private static final String[] WORDS = ("the a and to of I it was in that my we had for on with but so at about day "
+        + "today morning evening night work home walk coffee friend mother father sister brother call talked felt "
+        + "tired happy anxious calm again finally still never always really little long short new old first last "
+        + "went came took made saw thought remembered forgot wanted needed tried started finished read wrote cooked "
+        + "rain sun cold warm wind river park city train bus office meeting project deadline email lunch dinner "
+        + "book music film garden dog cat kids school doctor gym run sleep dream plan week month year weekend "
+        + "because when while after before maybe probably tomorrow yesterday quiet loud strange good bad better "
+        + "hard easy slowly quickly together alone everyone nobody something nothing everything room window light")
+        .split(" ");
+
+    /**
+     * Journal-like prose: random words from a small vocabulary in sentences of
+     * varying length, so it compresses about as well as real entries rather
+     * than as well as a repeated string.
+     */
+    static String prose(int length, Random random) {
+        StringBuilder text = new StringBuilder(length + 100);
+        while (text.length() < length) {
+            int words = 6 + random.nextInt(14);
+            for (int i = 0; i < words; i++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                text.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                text.append(i == words - 1 ? ". " : random.nextInt(8) == 0 ? ", " : " ");
+            }
+            if (random.nextInt(6) == 0) {
+                text.append("\n\n");
+            }
+        }
+        return text.substring(0, length);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Content {
+
+        @Param({"2000", "10000", "50000"})
+        public int size;
+
+        String text;
+        byte[] utf8;
+        byte[] encoded;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            text = prose(size, new Random(size));
+            utf8 = text.getBytes(StandardCharsets.UTF_8);
+            encoded = JournalContentCodec.encode(text);
+            System.out.printf("%n%d chars: %d bytes UTF-8, %d compressed (ratio %.2f)%n",
+                size, utf8.length, encoded.length, (double) utf8.length / encoded.length);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        Connection connection;
+        PreparedStatement textPage;
+        PreparedStatement zipPage;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            connection = connect();
+            textPage = connection.prepareStatement("select entry_id, title, content from journals_text"
+                + " where user_id = ? order by created_at desc limit " + PAGE_SIZE);
+            zipPage = connection.prepareStatement("select entry_id, title, content_compressed from journals_zip"
+                + " where user_id = ? order by created_at desc limit " + PAGE_SIZE);
+            try (Statement sizes = connection.createStatement();
+                 ResultSet rows = sizes.executeQuery("""
+                         select relname, pg_size_pretty(pg_total_relation_size(oid))
+                         from pg_class where relname in ('journals_text', 'journals_zip') order by relname
+                         """)) {
+                while (rows.next()) {
+                    System.out.printf("%n%s: %s", rows.getString(1), rows.getString(2));
+                }
+                System.out.println();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public byte[] utf8Encode(Content content) {
+        return content.text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String utf8Decode(Content content) {
+        return new String(content.utf8, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encode(Content content) {
+        return JournalContentCodec.encode(content.text);
+    }
+
+    @Benchmark
+    public String decode(Content content) {
+        return JournalContentCodec.decode(content.encoded);
+    }
+
+    @Benchmark
+    public String decodeSnippet(Content content) {
+        return JournalContentCodec.decodePrefix(content.encoded, SNIPPET_LENGTH);
+    }
+
+    @Benchmark
+    public long textPage(Database database) throws SQLException {
+        database.textPage.setString(1, randomUser());
+        long chars = 0;
+        try (ResultSet rows = database.textPage.executeQuery()) {
+            while (rows.next()) {
+                chars += rows.getString(3).length();
+            }
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public long compressedPage(Database database) throws SQLException {
+        database.zipPage.setString(1, randomUser());
+        long chars = 0;
+        try (ResultSet rows = database.zipPage.executeQuery()) {
+            while (rows.next()) {
+                chars += JournalContentCodec.decode(rows.getBytes(3)).length();
+            }
+        }
+        return chars;
+    }
+
+    private static String randomUser() {
+        return "user_" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+            System.getProperty("bench.jdbc.url"),
+            System.getProperty("bench.user", "postgres"),
+            System.getProperty("bench.password", ""));
+    }
+
+    static void seed(int rows, int contentSize) throws SQLException {
+        try (Connection connection = connect(); Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table if exists journals_text, journals_zip");
+            for (String table : new String[] {"journals_text", "journals_zip"}) {
+                ddl.execute("create table " + table + " (entry_id uuid not null primary key,"
+                    + " user_id varchar(255) not null, title varchar(255) not null,"
+                    + " content text, content_compressed bytea, created_at timestamp(6) not null)");
+            }
+            connection.setAutoCommit(false);
+            Random random = new Random(7);
+            String values = " values (gen_random_uuid(), ?, ?, ?, now() - ? * interval '1 hour')";
+            try (PreparedStatement text = connection.prepareStatement(
+                     "insert into journals_text (entry_id, user_id, title, content, created_at)" + values);
+                 PreparedStatement zip = connection.prepareStatement(
+                     "insert into journals_zip (entry_id, user_id, title, content_compressed, created_at)" + values)) {
+                for (int i = 0; i < rows; i++) {
+                    String content = prose(contentSize, random);
+                    text.setString(1, "user_" + i % USERS);
+                    text.setString(2, "Entry " + i);
+                    text.setString(3, content);
+                    text.setInt(4, i);
+                    text.addBatch();
+                    zip.setString(1, "user_" + i % USERS);
+                    zip.setString(2, "Entry " + i);
+                    zip.setBytes(3, JournalContentCodec.encode(content));
+                    zip.setInt(4, i);
+                    zip.addBatch();
+                    if (i % 1000 == 999) {
+                        text.executeBatch();
+                        zip.executeBatch();
+                        connection.commit();
+                    }
+                }
+                text.executeBatch();
+                zip.executeBatch();
+                connection.commit();
+            }
+            connection.setAutoCommit(true);
+            ddl.execute("create index on journals_text (user_id, created_at desc)");
+            ddl.execute("create index on journals_zip (user_id, created_at desc)");
+            ddl.execute("vacuum analyze journals_text");
+            ddl.execute("vacuum analyze journals_zip");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, SQLException {
+        boolean database = System.getProperty("bench.jdbc.url") != null;
+        if (database && Boolean.getBoolean("bench.seed")) {
+            seed(Integer.getInteger("bench.rows", 100_000), Integer.getInteger("bench.content-size", 10_000));
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(JournalContentCompressionBenchmark.class.getSimpleName());
+        if (!database) {
+            options.exclude("Page");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,163 @@
+package app.memovo.api.infrastructure.persistence.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.infrastructure.persistence.archive.JournalArchiver;
+
+@SpringBootTest(properties = {
+    "journals.content-compression.enabled=true",
+    "journals.content-compression.threshold=100",
+    "journals.archive.enabled=true"
+})
+class JournalContentCompressionIntegrationTest {
+
+    private static final String OWNER = "compression_owner";
+    private static final String OTHER = "compression_other";
+    private static final String LONG = "A long entry about a long day, written late at night. ".repeat(40);
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JournalArchiver archiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        saveUser(OWNER);
+        saveUser(OTHER);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id in (?, ?)", OWNER, OTHER);
+        jdbcTemplate.update("""
+                update journal_archive_checkpoint
+                set archived_before = null, run_cutoff = null, run_after_user = null, leased_until = null
+                where id = 1
+                """);
+    }
+
+    @Test
+    void save_shouldStoreLongContentCompressed_andShortContentPlain() {
+        String compressed = saveJournal(now, LONG);
+        String plain = saveJournal(now.minusMinutes(1), "Short");
+
+        assertThat(column(compressed, "content", String.class)).isNull();
+        byte[] stored = column(compressed, "content_compressed", byte[].class);
+        assertThat(stored[0]).isEqualTo(JournalContentCodec.VERSION);
+        assertThat(stored.length).isLessThan(LONG.length() / 10);
+        assertThat(column(plain, "content", String.class)).isEqualTo("Short");
+        assertThat(column(plain, "content_compressed", byte[].class)).isNull();
+    }
+
+    @Test
+    void reads_shouldReturnCompressedAndPlainContentAlike() {
+        String compressed = saveJournal(now, LONG);
+        // Written before compression was turned on
+        String legacy = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+            "insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)",
+            UUID.fromString(legacy), OWNER, "Title", LONG, now.minusMinutes(1));
+
+        assertThat(journalRepository.findById(compressed).orElseThrow().getContent()).isEqualTo(LONG);
+        assertThat(journalRepository.findByIdForUser(compressed, OWNER).orElseThrow().getContent()).isEqualTo(LONG);
+        assertThat(journalRepository.findByIdForUser(compressed, OTHER).orElseThrow().getContent()).isNull();
+        assertThat(journalRepository.findAllByIds(List.of(compressed, legacy), OWNER)).extracting(Journal::getContent)
+            .containsExactly(LONG, LONG);
+        assertThat(journalRepository.findPageByUserId(OWNER, null, 10)).extracting(Journal::getContent)
+            .containsExactly(LONG, LONG);
+        assertThat(journalRepository.findSummaryPageByUserId(OWNER, null, 10, 15)).extracting(JournalSummary::snippet)
+            .containsExactly(LONG.substring(0, 15), LONG.substring(0, 15));
+        assertThat(journalRepository.findSummaryPageByUserId(OWNER, null, 10, 0)).extracting(JournalSummary::snippet)
+            .containsOnlyNulls();
+
+        List<String> exported = new ArrayList<>();
+        journalRepository.forEachByUserId(OWNER, journal -> exported.add(journal.getContent()));
+        assertThat(exported).containsExactly(LONG, LONG);
+    }
+
+    @Test
+    void update_shouldSwitchBetweenCompressedAndPlainStorage() {
+        String id = saveJournal(now, "Short");
+
+        Journal journal = journalRepository.findById(id).orElseThrow();
+        journal.setContent(LONG);
+        journalRepository.save(journal);
+
+        assertThat(column(id, "content", String.class)).isNull();
+        assertThat(journalRepository.findById(id).orElseThrow().getContent()).isEqualTo(LONG);
+
+        Journal patched = journalRepository.patch(id, OWNER, new Journal(null, null, null, "Short again", null)).orElseThrow();
+
+        assertThat(patched.getContent()).isEqualTo("Short again");
+        assertThat(column(id, "content_compressed", byte[].class)).isNull();
+    }
+
+    @Test
+    void patch_shouldCompressNewContent_andReturnCompressedContent() {
+        String id = saveJournal(now, "Short");
+
+        assertThat(journalRepository.patch(id, OWNER, new Journal(null, null, null, LONG, null)).orElseThrow().getContent())
+            .isEqualTo(LONG);
+        assertThat(column(id, "content", String.class)).isNull();
+
+        Journal renamed = journalRepository.patch(id, OWNER, new Journal(null, null, "Renamed", null, null)).orElseThrow();
+
+        assertThat(renamed.getContent()).isEqualTo(LONG);
+    }
+
+    @Test
+    void archive_shouldMoveCompressedContent_andLeaveAStub() {
+        String id = saveJournal(now.minusYears(2), LONG);
+
+        assertThat(archiver.run()).isEqualTo(1);
+
+        assertThat(column(id, "content", String.class)).isNull();
+        assertThat(column(id, "content_compressed", byte[].class)).isNull();
+        assertThat(journalRepository.findById(id).orElseThrow().getContent()).isEqualTo(LONG);
+        assertThat(journalRepository.findSummaryPageByUserId(OWNER, null, 10, 5)).extracting(JournalSummary::snippet)
+            .containsExactly(LONG.substring(0, 5));
+    }
+
+    private <T> T column(String id, String column, Class<T> type) {
+        return jdbcTemplate.queryForObject("select " + column + " from journals where entry_id = ?", type,
+            UUID.fromString(id));
+    }
+
+    private String saveJournal(LocalDateTime createdAt, String content) {
+        String id = UUID.randomUUID().toString();
+        journalRepository.save(new Journal(id, OWNER, "Title", content, createdAt));
+        return id;
+    }
+
+    private void saveUser(String id) {
+        userRepository.save(new User(id, "Compression", "User", id + "@example.com", now, now));
+    }
+}
@@ -0,0 +1,103 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import app.memovo.api.infrastructure.metrics.RequestEndpointInterceptor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldTimeDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private final RequestEndpointInterceptor interceptor = new RequestEndpointInterceptor();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/journals/page");
+    private SimpleMeterRegistry registry;
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        dataSource = new ConnectionHoldTimeDataSource(pool, "primary", registry);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/journals/page");
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+    }
+
+    @Test
+    void close_shouldRecordTheHoldTimeOnce_taggedWithTheEndpoint() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        Connection held = dataSource.getConnection();
+        held.close();
+        held.close();
+
+        Timer timer = registry.get(ConnectionHoldTimeDataSource.METRIC)
+            .tags("pool", "primary", "method", "GET", "uri", "/api/v1/journals/page")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_shouldTagNone_outsideRequests() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection().close();
+
+        assertThat(registry.get(ConnectionHoldTimeDataSource.METRIC).tags("method", "none", "uri", "none")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void connection_shouldDelegate_andRethrowTheOriginalException() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        SQLException failure = new SQLException("boom");
+        doThrow(failure).when(connection).commit();
+
+        Connection held = dataSource.getConnection();
+
+        assertThat(held.getAutoCommit()).isFalse();
+        assertThatThrownBy(held::commit).isSameAs(failure);
+        assertThat(held).isEqualTo(held).isNotEqualTo(connection);
+        assertThat(registry.find(ConnectionHoldTimeDataSource.METRIC).timer().count()).isZero();
+    }
+
+    @Test
+    void close_shouldCloseThePool() throws Exception {
+        HikariDataSource hikari = mock(HikariDataSource.class);
+
+        new ConnectionHoldTimeDataSource(hikari, "journals-a", registry).close();
+
+        verify(hikari).close();
+    }
+}
@@ -0,0 +1,82 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import app.memovo.api.application.UserService;
+import app.memovo.api.domain.model.User;
+
+/**
+ * Runs the application against two H2 databases standing in for the primary
+ * and an (unreplicated) replica, so the database a call lands on is visible
+ * from which rows it sees.
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.jdbc-url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+    "datasource.replica.username=sa",
+    "datasource.replica.password=password"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL =
+        "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_USER_ID = "replica_only_user";
+    private static final String PRIMARY_USER_ID = "primary_only_user";
+
+    private static final JdbcTemplate replicaJdbc =
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "password"));
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(replicaJdbc.getDataSource())
+            .locations("classpath:db/migration", "classpath:db/migration-h2")
+            .load().migrate();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        replicaJdbc.update("delete from users");
+        jdbcTemplate.update("delete from users where id in (?, ?)", REPLICA_USER_ID, PRIMARY_USER_ID);
+    }
+
+    @Test
+    void readOnlyTransactions_shouldUseReplica() {
+        LocalDateTime now = LocalDateTime.now();
+        replicaJdbc.update(
+            "insert into users (id, first_name, last_name, email, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            REPLICA_USER_ID, "Replica", "User", "replica@example.com", now, now);
+
+        assertThat(userService.getUserById(REPLICA_USER_ID)).isPresent();
+    }
+
+    @Test
+    void writes_shouldUsePrimary() {
+        User user = new User(PRIMARY_USER_ID, "Primary", "User", "primary@example.com", null, null);
+
+        userService.createUser(user);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from users where id = ?", Integer.class, PRIMARY_USER_ID)).isEqualTo(1);
+        assertThat(replicaJdbc.queryForObject(
+            "select count(*) from users where id = ?", Integer.class, PRIMARY_USER_ID)).isZero();
+        // Nothing replicates between the two test databases
+        assertThat(userService.getUserById(PRIMARY_USER_ID)).isEmpty();
+    }
+}
@@ -0,0 +1,147 @@
+package app.memovo.api.infrastructure.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaFallbackDataSourceTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private MutableClock clock;
+    private ReplicaFallbackDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        dataSource = new ReplicaFallbackDataSource(replica, primary, RETRY_INTERVAL, clock);
+    }
+
+    @Test
+    void getConnection_shouldUseReplica_whenHealthy() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(dataSource.isReplicaAvailable()).isTrue();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimary_whenReplicaFails() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica - timed out"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void getConnection_shouldSkipReplica_duringRetryInterval() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica - timed out"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        dataSource.getConnection();
+
+        clock.advance(RETRY_INTERVAL.minusSeconds(1));
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        verify(replica, times(1)).getConnection();
+        verify(primary, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_shouldReturnToReplica_afterRetryIntervalWhenItRecovered() throws SQLException {
+        when(replica.getConnection())
+            .thenThrow(new SQLTransientConnectionException("replica - timed out"))
+            .thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        dataSource.getConnection();
+
+        clock.advance(RETRY_INTERVAL);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(dataSource.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void getConnection_shouldKeepReplicaDown_whenProbeFails() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica - timed out"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        dataSource.getConnection();
+
+        clock.advance(RETRY_INTERVAL);
+        dataSource.getConnection();
+        clock.advance(RETRY_INTERVAL.minusSeconds(1));
+        dataSource.getConnection();
+
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_shouldPropagatePrimaryFailure() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica - timed out"));
+        SQLException primaryDown = new SQLException("primary down");
+        when(primary.getConnection()).thenThrow(primaryDown);
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isSameAs(primaryDown);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
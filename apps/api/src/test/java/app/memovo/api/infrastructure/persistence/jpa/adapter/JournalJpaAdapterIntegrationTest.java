@@ -0,0 +1,379 @@
+package app.memovo.api.infrastructure.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.port.JournalJsonRepository;
+import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.domain.port.UserRepository;
+import app.memovo.api.infrastructure.persistence.jpa.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "journals.bulk-delete.chunk-size=2"
+})
+@Import(StatementCounter.class)
+@Transactional
+class JournalJpaAdapterIntegrationTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    // Fixed UUIDs whose order matches their number, so the id tie-breaker is predictable
+    private static final String J1 = journalId(1);
+    private static final String J2 = journalId(2);
+    private static final String J3 = journalId(3);
+    private static final String J4 = journalId(4);
+    private static final String J5 = journalId(5);
+    private static final String J_OTHER = journalId(99);
+    private static final String MISSING = journalId(404);
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JournalJsonRepository journalJsonRepository;
+
+    @BeforeEach
+    void setUp() {
+        saveUser("user_a");
+        saveUser("user_b");
+    }
+
+    @Test
+    void findPageByUserId_shouldWalkAllEntriesNewestFirst_withoutGapsOrDuplicates() {
+        // Two entries share a timestamp so the id tie-breaker is exercised
+        saveJournal(J1, "user_a", BASE_TIME);
+        saveJournal(J2, "user_a", BASE_TIME.plusHours(1));
+        saveJournal(J3, "user_a", BASE_TIME.plusHours(1));
+        saveJournal(J4, "user_a", BASE_TIME.plusHours(2));
+        saveJournal(J5, "user_a", BASE_TIME.plusHours(3));
+        saveJournal(J_OTHER, "user_b", BASE_TIME.plusHours(4));
+
+        List<String> seen = new ArrayList<>();
+        JournalCursor cursor = null;
+        do {
+            List<Journal> page = journalRepository.findPageByUserId("user_a", cursor, 2);
+            page.forEach(journal -> seen.add(journal.getId()));
+            cursor = page.size() == 2 ? JournalCursor.of(page.get(1)) : null;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(J5, J4, J3, J2, J1);
+    }
+
+    @Test
+    void jsonPassThrough_shouldBeOffOnH2() {
+        // The JSON path needs PostgreSQL; lists fall back to findByUserId
+        assertThat(journalJsonRepository.isAvailable()).isFalse();
+    }
+
+    @Test
+    void findSummaryPageByUserId_shouldPageLikeFullReads_andOnlyReturnRequestedSnippet() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        saveJournal(J2, "user_a", BASE_TIME.plusHours(1));
+        saveJournal(J3, "user_a", BASE_TIME.plusHours(2));
+        saveJournal(J_OTHER, "user_b", BASE_TIME.plusHours(3));
+
+        List<JournalSummary> first = journalRepository.findSummaryPageByUserId("user_a", null, 2, 0);
+        List<JournalSummary> rest = journalRepository.findSummaryPageByUserId("user_a", JournalCursor.of(first.get(1)), 2, 4);
+
+        assertThat(first).extracting(JournalSummary::id).containsExactly(J3, J2);
+        assertThat(first).extracting(JournalSummary::snippet).containsOnlyNulls();
+        assertThat(first.get(0).userId()).isEqualTo("user_a");
+        assertThat(first.get(0).title()).isEqualTo("Title " + J3);
+        assertThat(rest).singleElement().satisfies(summary -> {
+            assertThat(summary.id()).isEqualTo(J1);
+            assertThat(summary.snippet()).isEqualTo("Cont");
+        });
+    }
+
+    @Test
+    void findByUserIdAndCreatedAtBetween_shouldReturnHalfOpenRange_newestFirst() {
+        saveJournal(J1, "user_a", BASE_TIME.minusSeconds(1));
+        saveJournal(J2, "user_a", BASE_TIME);
+        saveJournal(J3, "user_a", BASE_TIME.plusHours(5));
+        saveJournal(J4, "user_a", BASE_TIME.plusDays(1));
+        saveJournal(J_OTHER, "user_b", BASE_TIME.plusHours(1));
+
+        List<Journal> journals = journalRepository.findByUserIdAndCreatedAtBetween(
+            "user_a", BASE_TIME, BASE_TIME.plusDays(1));
+
+        assertThat(journals).extracting(Journal::getId).containsExactly(J3, J2);
+    }
+
+    @Test
+    void countByUserIdPerDay_shouldGroupByCalendarDay_inOneStatement() {
+        java.time.LocalDate day = BASE_TIME.toLocalDate();
+        saveJournal(J1, "user_a", day.atStartOfDay());
+        saveJournal(J2, "user_a", day.atTime(23, 59, 59));
+        saveJournal(J3, "user_a", day.plusDays(2).atTime(12, 0));
+        saveJournal(J4, "user_a", day.plusDays(40).atStartOfDay());
+        saveJournal(J_OTHER, "user_b", day.atTime(12, 0));
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        List<JournalDayCount> counts = journalRepository.countByUserIdPerDay(
+            "user_a", day.atStartOfDay(), day.plusDays(31).atStartOfDay());
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(counts).containsExactly(
+            new JournalDayCount(day, 2),
+            new JournalDayCount(day.plusDays(2), 1));
+    }
+
+    @Test
+    void patch_shouldUpdateSuppliedFields_inOneStatement() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        Optional<Journal> patched = journalRepository.patch(J1, "user_a", new Journal(null, null, "New title", null, null));
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(patched).hasValueSatisfying(journal -> {
+            assertThat(journal.getId()).isEqualTo(J1);
+            assertThat(journal.getUserId()).isEqualTo("user_a");
+            assertThat(journal.getTitle()).isEqualTo("New title");
+            assertThat(journal.getContent()).isEqualTo("Content " + J1);
+            assertThat(journal.getCreatedAt()).isEqualTo(BASE_TIME);
+        });
+        assertThat(journalRepository.findById(J1)).hasValueSatisfying(
+            journal -> assertThat(journal.getTitle()).isEqualTo("New title"));
+    }
+
+    @Test
+    void patch_shouldReturnEmpty_whenJournalDoesNotExist_inOneStatement() {
+        entityManager.flush();
+        statementCounter.reset();
+
+        Optional<Journal> patched = journalRepository.patch(MISSING, "user_a", new Journal(null, null, null, "Body", null));
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(patched).isEmpty();
+        assertThat(journalRepository.patch("not-a-uuid", "user_a", new Journal(null, null, "Title", null, null)))
+            .isEmpty();
+    }
+
+    @Test
+    void patch_shouldNotTouchAnotherUsersJournal_norReassignTheOwner() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+
+        Optional<Journal> foreign = journalRepository.patch(J1, "user_b", new Journal(null, "user_b", "Mine now", null, null));
+        Optional<Journal> own = journalRepository.patch(J1, "user_a", new Journal(null, "user_b", "Renamed", null, null));
+
+        assertThat(foreign).isEmpty();
+        assertThat(own).hasValueSatisfying(journal -> {
+            assertThat(journal.getUserId()).isEqualTo("user_a");
+            assertThat(journal.getTitle()).isEqualTo("Renamed");
+        });
+        assertThat(journalRepository.findById(J1)).hasValueSatisfying(
+            journal -> assertThat(journal.getUserId()).isEqualTo("user_a"));
+    }
+
+    @Test
+    void findByIdForUser_shouldReadOwnedJournal_andHideForeignText_inOneStatement() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        Optional<Journal> owned = journalRepository.findByIdForUser(J1, "user_a");
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(owned).hasValueSatisfying(journal -> {
+            assertThat(journal.getTitle()).isEqualTo("Title " + J1);
+            assertThat(journal.getContent()).isEqualTo("Content " + J1);
+        });
+        assertThat(journalRepository.findByIdForUser(J1, "user_b")).hasValueSatisfying(journal -> {
+            assertThat(journal.getUserId()).isEqualTo("user_a");
+            assertThat(journal.getTitle()).isNull();
+            assertThat(journal.getContent()).isNull();
+        });
+        assertThat(journalRepository.findByIdForUser(MISSING, "user_a")).isEmpty();
+    }
+
+    @Test
+    void findAllByIds_shouldReturnOwnedJournalsOnly_inOneStatement() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        saveJournal(J2, "user_a", BASE_TIME);
+        saveJournal(J_OTHER, "user_b", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        List<Journal> found = journalRepository.findAllByIds(List.of(J2, J1, J_OTHER, MISSING, "not-a-uuid"), "user_a");
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(found).extracting(Journal::getId).containsExactlyInAnyOrder(J1, J2);
+        assertThat(found).extracting(Journal::getUserId).containsOnly("user_a");
+        assertThat(journalRepository.findAllByIds(List.of("not-a-uuid"), "user_a")).isEmpty();
+    }
+
+    @Test
+    void deleteByIdAndUserId_shouldOnlyDeleteOwnedJournal_inOneStatement() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(journalRepository.deleteByIdAndUserId(J1, "user_b")).isZero();
+        statementCounter.reset();
+
+        int deleted = journalRepository.deleteByIdAndUserId(J1, "user_a");
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(journalRepository.existsById(J1)).isFalse();
+    }
+
+    @Test
+    void deleteChunkByUserId_shouldDeleteOnlyThatUsersJournals_atMostLimitPerStatement() {
+        for (int i = 0; i < 5; i++) {
+            saveJournal(journalId(10 + i), "user_a", BASE_TIME.plusMinutes(i));
+        }
+        saveJournal(J_OTHER, "user_b", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        int first = journalRepository.deleteChunkByUserId("user_a", 2);
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(first).isEqualTo(2);
+        assertThat(journalRepository.countByUserId("user_a")).isEqualTo(3);
+        assertThat(journalRepository.deleteChunkByUserId("user_a", 2)).isEqualTo(2);
+        assertThat(journalRepository.deleteChunkByUserId("user_a", 2)).isEqualTo(1);
+        assertThat(journalRepository.deleteChunkByUserId("user_a", 2)).isZero();
+        assertThat(journalRepository.existsById(J_OTHER)).isTrue();
+    }
+
+    @Test
+    void deleteAllByIdsAndUserId_shouldDeleteOwnedIdsOnly_oneStatementPerChunk() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        saveJournal(J2, "user_a", BASE_TIME);
+        saveJournal(J3, "user_a", BASE_TIME);
+        saveJournal(J_OTHER, "user_b", BASE_TIME);
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        int deleted = journalRepository.deleteAllByIdsAndUserId(
+            List.of(J1, J2, J2, J3, J_OTHER, MISSING, "not-a-uuid"), "user_a");
+
+        // J1, J2, J3, J_OTHER, MISSING at chunk-size 2; no SELECTs
+        assertThat(statementCounter.count()).isEqualTo(3);
+        assertThat(deleted).isEqualTo(3);
+        assertThat(journalRepository.countByUserId("user_a")).isZero();
+        assertThat(journalRepository.existsById(J_OTHER)).isTrue();
+    }
+
+    @Test
+    void deleteAllByUserIdAndCreatedAtBetween_shouldDeleteHalfOpenRange_inChunks() {
+        saveJournal(J1, "user_a", BASE_TIME.minusSeconds(1));
+        saveJournal(J2, "user_a", BASE_TIME);
+        saveJournal(J3, "user_a", BASE_TIME.plusHours(1));
+        saveJournal(J4, "user_a", BASE_TIME.plusHours(2));
+        saveJournal(J5, "user_a", BASE_TIME.plusDays(1));
+        saveJournal(J_OTHER, "user_b", BASE_TIME.plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        int deleted = journalRepository.deleteAllByUserIdAndCreatedAtBetween(
+            "user_a", BASE_TIME, BASE_TIME.plusDays(1));
+
+        // Chunks of 2, 1: the short chunk ends the loop
+        assertThat(statementCounter.count()).isEqualTo(2);
+        assertThat(deleted).isEqualTo(3);
+        assertThat(journalRepository.existsById(J1)).isTrue();
+        assertThat(journalRepository.existsById(J5)).isTrue();
+        assertThat(journalRepository.existsById(J_OTHER)).isTrue();
+    }
+
+    @Test
+    void userDeleteById_shouldCascadeToJournals_inOneStatement() {
+        saveJournal(J1, "user_a", BASE_TIME);
+        saveJournal(J2, "user_a", BASE_TIME.plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+
+        userRepository.deleteById("user_a");
+
+        // No SELECT of the user or its journals, no per-row DELETEs
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(userRepository.existsById("user_a")).isFalse();
+        assertThat(journalRepository.countByUserId("user_a")).isZero();
+        assertThat(journalRepository.existsById(J1)).isFalse();
+    }
+
+    @Test
+    void insertAll_shouldWriteInJdbcBatches_withoutSelectingFirst() {
+        List<Journal> journals = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            journals.add(new Journal(journalId(1_000 + i), "user_a", "Title " + i, "Content " + i,
+                BASE_TIME.plusMinutes(i)));
+        }
+        // Flush the users from setUp so only the journal inserts are counted
+        entityManager.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Journal> saved = journalRepository.insertAll(journals);
+
+        assertThat(saved).extracting(Journal::getId).containsExactlyElementsOf(
+            journals.stream().map(Journal::getId).toList());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // 120 rows at batch_size=50: one prepared INSERT per batch and no merge SELECTs
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(journalRepository.findByUserId("user_a")).hasSize(120);
+    }
+
+    private void saveUser(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.save(new User(id, "Test", "User", id + "@example.com", now, now));
+    }
+
+    private void saveJournal(String id, String userId, LocalDateTime createdAt) {
+        journalRepository.save(new Journal(id, userId, "Title " + id, "Content " + id, createdAt));
+    }
+
+    private static String journalId(long n) {
+        return new UUID(0, n).toString();
+    }
+}
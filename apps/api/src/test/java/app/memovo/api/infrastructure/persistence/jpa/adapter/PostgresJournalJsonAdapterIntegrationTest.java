@@ -0,0 +1,148 @@
+package app.memovo.api.infrastructure.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.application.JournalService;
+import app.memovo.api.controller.dto.JournalResponse;
+import app.memovo.api.controller.mapper.JournalControllerMapper;
+import app.memovo.api.infrastructure.persistence.archive.JournalArchiveStore;
+import app.memovo.api.infrastructure.persistence.compression.JournalContentCodec;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * GET /api/v1/journals with journals.json-passthrough.enabled against a real
+ * PostgreSQL, compared byte for byte with what Jackson writes for the same
+ * journals: escaping, nulls, timestamp formatting, and content that is stored
+ * compressed or archived.
+ *
+ * Runs only when {@code test.postgres.url} points at a PostgreSQL database
+ * (e.g. {@code ./mvnw test -Dtest.postgres.url=jdbc:postgresql://localhost:5432/memovo_test});
+ * the test user and its journals are removed again afterwards.
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=${test.postgres.url}",
+    "spring.datasource.driverClassName=org.postgresql.Driver",
+    "spring.datasource.username=${test.postgres.user:postgres}",
+    "spring.datasource.password=${test.postgres.password:}",
+    "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+    "journals.json-passthrough.enabled=true",
+    "api.key=" + PostgresJournalJsonAdapterIntegrationTest.API_KEY,
+    "rate-limit.enabled=false"
+})
+class PostgresJournalJsonAdapterIntegrationTest {
+
+    static final String API_KEY = "json-passthrough-test-key";
+    private static final String USER = "json_passthrough_user";
+    private static final String OTHER_USER = "json_passthrough_other";
+
+    // Quotes, backslashes, control characters, non-ASCII and a surrogate pair
+    private static final String TRICKY = "\"Quoted\" \\path\\ line\nbreak\ttab \u0007\u001f Anaïs Zoë ☕ 🌊 </script>";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private JournalControllerMapper mapper;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        for (String user : List.of(USER, OTHER_USER)) {
+            jdbcTemplate.update("insert into users (id, first_name, last_name, email, created_at, updated_at) "
+                + "values (?, 'Json', 'User', ?, ?, ?)", user, user + "@example.com",
+                Timestamp.valueOf(now), Timestamp.valueOf(now));
+        }
+        insert(USER, TRICKY, TRICKY, null, now.withNano(123_456_000));
+        // Fractions with trailing zeros, and none at all
+        insert(USER, "Trailing zeros", "Plain", null, now.minusHours(1).withNano(120_000_000));
+        insert(USER, "Whole second", "Plain", null, now.minusHours(2));
+        insert(USER, "Midnight", "Plain", null, now.minusDays(1).withHour(0));
+        insert(USER, "", null, null, now.minusHours(3));
+        insert(USER, "Compressed", null, JournalContentCodec.encode(TRICKY.repeat(50)), now.minusHours(4));
+        UUID archived = insert(USER, "Archived", null, null, now.minusHours(5).withNano(5_000));
+        jdbcTemplate.update("insert into journal_archive (entry_id, created_at, content, archived_at) values (?, ?, ?, ?)",
+            archived, Timestamp.valueOf(now.minusHours(5).withNano(5_000)),
+            JournalArchiveStore.compress(TRICKY), Timestamp.valueOf(now));
+        // Same created_at as the first entry, so the order has to break the tie on id
+        insert(USER, "Tie", "Same instant", null, now.withNano(123_456_000));
+        insert(OTHER_USER, "Not yours", "Not yours", null, now);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id in (?, ?)", USER, OTHER_USER);
+    }
+
+    @Test
+    void getJournals_shouldStreamTheBytesJacksonWouldWrite() throws Exception {
+        assertThat(journalService.canWriteJournalsAsJson()).isTrue();
+
+        HttpResponse<byte[]> response = get("/api/v1/journals?userId=" + USER);
+
+        List<JournalResponse> newestFirst = journalService.getJournalsByUserId(USER).stream()
+            .map(mapper::toResponse)
+            .sorted(Comparator.comparing(JournalResponse::createdAt).thenComparing(JournalResponse::id).reversed())
+            .toList();
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+            type -> assertThat(type).startsWith("application/json"));
+        assertThat(new String(response.body(), StandardCharsets.UTF_8))
+            .isEqualTo(new String(jsonMapper.writeValueAsBytes(newestFirst), StandardCharsets.UTF_8));
+        assertThat(response.body()).isEqualTo(jsonMapper.writeValueAsBytes(newestFirst));
+        assertThat(newestFirst).hasSize(8);
+    }
+
+    @Test
+    void getJournals_shouldWriteAnEmptyArray_forAUserWithoutJournals() throws Exception {
+        jdbcTemplate.update("delete from journals where user_id = ?", USER);
+
+        HttpResponse<byte[]> response = get("/api/v1/journals?userId=" + USER);
+
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        return HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).header("x-api-key", API_KEY).build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private UUID insert(String userId, String title, String content, byte[] contentCompressed,
+                        LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("insert into journals (entry_id, user_id, title, content, content_compressed, created_at) "
+            + "values (?, ?, ?, ?, ?, ?)", id, userId, title, content, contentCompressed, Timestamp.valueOf(createdAt));
+        return id;
+    }
+}
@@ -0,0 +1,41 @@
+package app.memovo.api.infrastructure.persistence.jpa.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class PostgresJournalJsonAdapterTest {
+
+    @Test
+    void upperCaseUnicodeEscapes_shouldMatchJacksonEscapes() {
+        assertThat(fix("{\"title\":\"a\\u001fb\\u000b\"}")).isEqualTo("{\"title\":\"a\\u001Fb\\u000B\"}");
+    }
+
+    @Test
+    void upperCaseUnicodeEscapes_shouldLeaveEscapedBackslashesAndPlainTextAlone() {
+        // The text « (backslash, u, ...) is escaped as \\u00ab and must stay as is
+        assertThat(fix("\"\\\\u00ab \\\"abc\\\" \\n def\"")).isEqualTo("\"\\\\u00ab \\\"abc\\\" \\n def\"");
+        assertThat(fix("\"\\\\\\u001f\"")).isEqualTo("\"\\\\\\u001F\"");
+    }
+
+    @Test
+    void withContent_shouldReplaceTheNullContentField_evenWhenTheTitleMentionsIt() {
+        String json = "{\"id\":\"1\",\"title\":\"\\\",\\\"content\\\":null,\\\"createdAt\\\":\\\"\","
+            + "\"content\":null,\"createdAt\":\"2025-01-01T08:00:00\"}";
+
+        byte[] result = PostgresJournalJsonAdapter.withContent(
+            json.getBytes(StandardCharsets.UTF_8), "\"archived \\\"text\\\"\"".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(
+            "{\"id\":\"1\",\"title\":\"\\\",\\\"content\\\":null,\\\"createdAt\\\":\\\"\","
+                + "\"content\":\"archived \\\"text\\\"\",\"createdAt\":\"2025-01-01T08:00:00\"}");
+    }
+
+    private static String fix(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        PostgresJournalJsonAdapter.upperCaseUnicodeEscapes(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
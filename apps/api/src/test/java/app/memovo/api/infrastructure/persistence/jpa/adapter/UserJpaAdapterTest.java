@@ -1,9 +1,11 @@
 package app.memovo.api.infrastructure.persistence.jpa.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import app.memovo.api.domain.model.User;
+import app.memovo.api.exception.UserAlreadyExistsException;
 import app.memovo.api.infrastructure.persistence.jpa.entity.UserJpaEntity;
 import app.memovo.api.infrastructure.persistence.jpa.mapper.UserPersistenceMapper;
 import app.memovo.api.infrastructure.persistence.jpa.repository.SpringDataUserRepository;
@@ -51,6 +53,40 @@ class UserJpaAdapterTest {
         verify(springRepository).save(testEntity);
     }
 
+    @Test
+    void insert_shouldIssueOneInsert_withoutMerging() {
+        when(springRepository.insertIfAbsent("user_123", "John", "Doe", "john.doe@example.com",
+            testUser.getCreatedAt(), testUser.getUpdatedAt())).thenReturn(1);
+
+        User insertedUser = userJpaAdapter.insert(testUser);
+
+        assertThat(insertedUser).isEqualTo(testUser);
+        verify(springRepository, never()).save(any());
+        verify(springRepository, never()).findById(any());
+    }
+
+    @Test
+    void insert_shouldReturnTheExistingUser_whenTheIdIsTaken() {
+        User existing = new User("user_123", "John", "Doe", "john.doe@example.com", null, null);
+        when(springRepository.insertIfAbsent(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(springRepository.findById("user_123")).thenReturn(Optional.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(existing);
+
+        User insertedUser = userJpaAdapter.insert(testUser);
+
+        assertThat(insertedUser).isSameAs(existing);
+    }
+
+    @Test
+    void insert_shouldReportConflict_whenTheEmailBelongsToAnotherUser() {
+        when(springRepository.insertIfAbsent(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        when(springRepository.findById("user_123")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userJpaAdapter.insert(testUser))
+            .isInstanceOf(UserAlreadyExistsException.class)
+            .hasMessageContaining("user_123");
+    }
+
     @Test
     void findById_shouldReturnOptionalDomain() {
         when(springRepository.findById("user_123")).thenReturn(Optional.of(testEntity));
@@ -62,9 +98,10 @@ class UserJpaAdapterTest {
     }
 
     @Test
-    void deleteById_shouldCallRepository() {
+    void deleteById_shouldIssueBulkDelete_withoutLoadingTheUser() {
         userJpaAdapter.deleteById("user_123");
 
-        verify(springRepository).deleteById("user_123");
+        verify(springRepository).deleteRowById("user_123");
+        verify(springRepository, never()).findById(any());
     }
 }
@@ -0,0 +1,254 @@
+package app.memovo.api.infrastructure.persistence.partition;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of the journal read paths on one plain table versus the same rows in
+ * a table partitioned by month of created_at (as after V5 with
+ * journals.partitions.enabled), on PostgreSQL
+ *
+ * The queries are the ones SpringDataJournalRepository issues: newest page,
+ * a keyset page deep in the user's history, one month of per-day counts, and
+ * a lookup by id. On the partitioned table the newest page and the lookup by
+ * id carry the created_at bounds JournalPartitionPruning adds: the two newest
+ * months (then older ones for users with too few entries there), and a day
+ * either side of the time in the UUIDv7 id. Users are picked at random for
+ * every call, so at this size most reads come from disk.
+ *
+ * Run once with {@code -Dbench.seed=true} to create journals_plain and
+ * journals_part with {@code bench.rows} rows (default 50M) of 100k users spread
+ * over 2023-2025, with UUIDv7 ids of their creation time; later runs reuse them.
+ * The entry id registry of V8 is left out, as no read uses it.
+ *
+ * <pre>
+ * ./mvnw test-compile
+ * java -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/partition_bench -Dbench.user=postgres -Dbench.password=postgres \
+ *     -Dbench.seed=true \
+ *     -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     app.memovo.api.infrastructure.persistence.partition.JournalPartitionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalPartitionBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDate FIRST_MONTH = LocalDate.of(2023, 1, 1);
+    private static final int MONTHS = 36;
+    private static final Timestamp CURSOR = Timestamp.valueOf(LocalDateTime.of(2024, 6, 15, 0, 0));
+    private static final UUID CURSOR_ID = new UUID(-1L, -1L);
+    private static final Timestamp MONTH_FROM = Timestamp.valueOf(LocalDateTime.of(2024, 5, 1, 0, 0));
+    private static final Timestamp MONTH_TO = Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+    private static final String COLUMNS = "entry_id, user_id, title, content, created_at";
+    private static final String NEWEST_FIRST = " order by created_at desc, entry_id desc limit ";
+
+    // "Now" is the last month of the data; the seeded created_at values are UTC
+    private static final JournalPartitionPruning PRUNING =
+        new JournalPartitionPruning(true, Clock.fixed(LocalDate.of(2025, 12, 20).atStartOfDay().toInstant(ZoneOffset.UTC),
+            ZoneOffset.UTC));
+
+    @Param({"journals_plain", "journals_part"})
+    public String table;
+
+    private Connection connection;
+    private boolean partitioned;
+    private PreparedStatement firstPage;
+    private PreparedStatement olderPage;
+    private PreparedStatement keysetPage;
+    private PreparedStatement monthCounts;
+    private PreparedStatement byId;
+    private List<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = connect();
+        partitioned = table.equals("journals_part");
+        firstPage = connection.prepareStatement("select " + COLUMNS + " from " + table + " where user_id = ?"
+            + (partitioned ? " and created_at >= ?" : "") + NEWEST_FIRST + PAGE_SIZE);
+        olderPage = connection.prepareStatement("select " + COLUMNS + " from " + table
+            + " where user_id = ? and created_at < ?" + NEWEST_FIRST + "?");
+        keysetPage = connection.prepareStatement("select " + COLUMNS + " from " + table
+            + " where user_id = ? and created_at <= ? and (created_at < ? or (created_at = ? and entry_id < ?))"
+            + " order by created_at desc, entry_id desc limit " + PAGE_SIZE);
+        monthCounts = connection.prepareStatement("select cast(created_at as date), count(*) from " + table
+            + " where user_id = ? and created_at >= ? and created_at < ?"
+            + " group by cast(created_at as date) order by cast(created_at as date)");
+        byId = connection.prepareStatement("select " + COLUMNS + " from " + table + " where entry_id = ?"
+            + (partitioned ? " and created_at >= ? and created_at < ?" : ""));
+
+        ids = new ArrayList<>();
+        try (Statement sample = connection.createStatement();
+             ResultSet rows = sample.executeQuery("select entry_id from journals_plain tablesample system (0.01) limit 10000")) {
+            while (rows.next()) {
+                ids.add(rows.getObject(1, UUID.class));
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No benchmark data; run once with -Dbench.seed=true");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int firstPage() throws SQLException {
+        String user = randomUser();
+        firstPage.setString(1, user);
+        if (!partitioned) {
+            return drain(firstPage);
+        }
+        Timestamp since = Timestamp.valueOf(PRUNING.recentSince().orElseThrow());
+        firstPage.setTimestamp(2, since);
+        int rows = drain(firstPage);
+        if (rows == PAGE_SIZE) {
+            return rows;
+        }
+        olderPage.setString(1, user);
+        olderPage.setTimestamp(2, since);
+        olderPage.setInt(3, PAGE_SIZE - rows);
+        return rows + drain(olderPage);
+    }
+
+    @Benchmark
+    public int keysetPage() throws SQLException {
+        keysetPage.setString(1, randomUser());
+        keysetPage.setTimestamp(2, CURSOR);
+        keysetPage.setTimestamp(3, CURSOR);
+        keysetPage.setTimestamp(4, CURSOR);
+        keysetPage.setObject(5, CURSOR_ID);
+        return drain(keysetPage);
+    }
+
+    @Benchmark
+    public int monthCounts() throws SQLException {
+        monthCounts.setString(1, randomUser());
+        monthCounts.setTimestamp(2, MONTH_FROM);
+        monthCounts.setTimestamp(3, MONTH_TO);
+        return drain(monthCounts);
+    }
+
+    @Benchmark
+    public int byId() throws SQLException {
+        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        byId.setObject(1, id);
+        if (partitioned) {
+            JournalPartitionPruning.CreatedAtRange range = PRUNING.createdAtRange(id).orElseThrow();
+            byId.setTimestamp(2, Timestamp.valueOf(range.from()));
+            byId.setTimestamp(3, Timestamp.valueOf(range.to()));
+        }
+        return drain(byId);
+    }
+
+    private static String randomUser() {
+        return "user_" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+            System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/partition_bench"),
+            System.getProperty("bench.user", "postgres"),
+            System.getProperty("bench.password", ""));
+    }
+
+    // Same layout as V5: monthly range partitions, a default partition, PK (entry_id, created_at)
+    static void seed(long rows) throws SQLException {
+        double secondsPerRow = MONTHS * 30.4375 * 86_400 / rows;
+        try (Connection connection = connect(); Statement ddl = connection.createStatement()) {
+            ddl.execute("set maintenance_work_mem = '512MB'");
+            ddl.execute("drop table if exists journals_plain, journals_part");
+            ddl.execute("""
+                    create table journals_plain (
+                        entry_id uuid not null, user_id varchar(255) not null, title varchar(255) not null,
+                        content text, created_at timestamp(6) not null)
+                    """);
+            // UUIDv7 layout: 48-bit millis of created_at, version 7, random bits with the RFC variant
+            ddl.execute("insert into journals_plain (" + COLUMNS + ") "
+                + "select (lpad(to_hex((extract(epoch from t) * 1000)::bigint), 12, '0') || '7' || substr(r, 1, 3)"
+                + " || '8' || substr(r, 4, 15))::uuid, 'user_' || (g % " + USERS + "), 'Entry ' || g, "
+                + "'Journal entry ' || g || ', a few ordinary sentences about the day to give rows a realistic width.', t "
+                + "from generate_series(1, " + rows + ") g, "
+                + "lateral (select timestamp '" + FIRST_MONTH + "' + make_interval(secs => g * " + secondsPerRow + ") as t,"
+                + " md5(g::text) as r) v");
+            ddl.execute("alter table journals_plain add primary key (entry_id)");
+            ddl.execute("create index on journals_plain (user_id, created_at desc, entry_id desc)");
+
+            ddl.execute("""
+                    create table journals_part (
+                        entry_id uuid not null, user_id varchar(255) not null, title varchar(255) not null,
+                        content text, created_at timestamp(6) not null)
+                    partition by range (created_at)
+                    """);
+            ddl.execute("create table journals_part_default partition of journals_part default");
+            for (int i = 0; i < MONTHS; i++) {
+                LocalDate month = FIRST_MONTH.plusMonths(i);
+                ddl.execute("create table journals_part_" + month.getYear() + "_" + String.format("%02d", month.getMonthValue())
+                    + " partition of journals_part for values from ('" + month + "') to ('" + month.plusMonths(1) + "')");
+            }
+            ddl.execute("insert into journals_part select * from journals_plain");
+            ddl.execute("alter table journals_part add primary key (entry_id, created_at)");
+            ddl.execute("create index on journals_part (user_id, created_at desc, entry_id desc)");
+            ddl.execute("vacuum analyze journals_plain");
+            ddl.execute("vacuum analyze journals_part");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, SQLException {
+        if (Boolean.getBoolean("bench.seed")) {
+            seed(Long.getLong("bench.rows", 50_000_000L));
+        }
+        new Runner(new OptionsBuilder()
+                .include(JournalPartitionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
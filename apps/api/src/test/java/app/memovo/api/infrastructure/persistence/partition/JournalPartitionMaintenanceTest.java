@@ -0,0 +1,146 @@
+package app.memovo.api.infrastructure.persistence.partition;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class JournalPartitionMaintenanceTest {
+
+    private static final Clock OCTOBER = Clock.fixed(Instant.parse("2026-10-17T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void maintain_shouldCreateCurrentAndComingMonths_ofJournalsAndArchive() {
+        givenPartitionedPostgres(List.of());
+
+        maintenance(2, 0, true).maintain();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("create table if not exists journals_2026_10 partition of journals"
+            + " for values from ('2026-10-01') to ('2026-11-01')");
+        inOrder.verify(jdbcTemplate).execute("create table if not exists journal_archive_2026_10"
+            + " partition of journal_archive for values from ('2026-10-01') to ('2026-11-01')");
+
+        verify(jdbcTemplate).execute("create table if not exists journals_2026_11 partition of journals"
+            + " for values from ('2026-11-01') to ('2026-12-01')");
+        verify(jdbcTemplate).execute("create table if not exists journals_2026_12 partition of journals"
+            + " for values from ('2026-12-01') to ('2027-01-01')");
+        verify(jdbcTemplate).execute("create table if not exists journal_archive_2026_12"
+            + " partition of journal_archive for values from ('2026-12-01') to ('2027-01-01')");
+        verify(jdbcTemplate, never()).execute(startsWith("alter table"));
+    }
+
+    @Test
+    void maintain_shouldKeepGoing_whenAMonthCannotBeCreated() {
+        givenPartitionedPostgres(List.of());
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+            .when(jdbcTemplate).execute(startsWith("create table if not exists journals_2026_10 "));
+
+        maintenance(1, 0, true).maintain();
+
+        verify(jdbcTemplate).execute(startsWith("create table if not exists journal_archive_2026_10 "));
+        verify(jdbcTemplate).execute(startsWith("create table if not exists journals_2026_11 "));
+    }
+
+    @Test
+    void maintain_shouldDetachAndDropMonthsPastRetention() {
+        givenPartitionedPostgres(List.of("journals_2025_08", "journals_2025_09", "journals_2025_10",
+            "journals_2026_10", "journals_default"));
+
+        maintenance(0, 12, true).maintain();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("set local lock_timeout = '5s'");
+        inOrder.verify(jdbcTemplate).execute(
+            "delete from journal_entry_ids r using journals_2025_08 p where r.entry_id = p.entry_id");
+        inOrder.verify(jdbcTemplate).execute("alter table journals detach partition journals_2025_08");
+        inOrder.verify(jdbcTemplate).execute("drop table journals_2025_08");
+        inOrder.verify(jdbcTemplate).execute("alter table journals detach partition journals_2025_09");
+        inOrder.verify(jdbcTemplate).execute("drop table journals_2025_09");
+        verify(jdbcTemplate, never()).execute(contains("journals_2025_10"));
+        verify(jdbcTemplate, never()).execute(contains("journals_default"));
+    }
+
+    @Test
+    void maintain_shouldRemoveTheArchivedMonthFirst() {
+        givenPartitionedPostgres(List.of("journals_2024_01"));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("journal_archive_2024_01")))
+            .thenReturn(true);
+
+        maintenance(0, 12, true).maintain();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("alter table journal_archive detach partition journal_archive_2024_01");
+        inOrder.verify(jdbcTemplate).execute("drop table journal_archive_2024_01");
+        inOrder.verify(jdbcTemplate).execute("alter table journals detach partition journals_2024_01");
+        inOrder.verify(jdbcTemplate).execute("drop table journals_2024_01");
+    }
+
+    @Test
+    void maintain_shouldOnlyDetach_whenDroppingIsDisabled() {
+        givenPartitionedPostgres(List.of("journals_2024_01"));
+
+        maintenance(0, 12, false).maintain();
+
+        verify(jdbcTemplate).execute("alter table journals detach partition journals_2024_01");
+        verify(jdbcTemplate, never()).execute(startsWith("drop table"));
+    }
+
+    @Test
+    void maintain_shouldNotExpireAnything_withoutRetention() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true);
+
+        maintenance(0, 0, true).maintain();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+        verify(jdbcTemplate, never()).execute(startsWith("alter table"));
+    }
+
+    @Test
+    void maintain_shouldDoNothing_whenJournalsIsNotPartitioned() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+        maintenance(3, 12, true).maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void maintain_shouldDoNothing_onOtherDatabases() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        maintenance(3, 12, true).maintain();
+
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void givenPartitionedPostgres(List<String> partitions) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true);
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(partitions);
+    }
+
+    private JournalPartitionMaintenance maintenance(int monthsAhead, int retentionMonths, boolean dropExpired) {
+        return new JournalPartitionMaintenance(jdbcTemplate, TransactionOperations.withoutTransaction(), true,
+            monthsAhead, retentionMonths, dropExpired, OCTOBER);
+    }
+}
@@ -0,0 +1,51 @@
+package app.memovo.api.infrastructure.persistence.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import app.memovo.api.infrastructure.id.UuidV7Generator;
+
+class JournalPartitionPruningTest {
+
+    private static final Clock COLOMBO = Clock.fixed(Instant.parse("2026-10-17T12:00:00Z"), ZoneId.of("Asia/Colombo"));
+
+    @Test
+    void createdAtRange_shouldSpanADayEitherSideOfTheIdsTime_inTheServersZone() {
+        long millis = Instant.parse("2026-03-31T20:00:00Z").toEpochMilli();
+        // Version 7 and the RFC variant around the millisecond timestamp (see UuidV7Generator)
+        UUID id = new UUID((millis << 16) | 0x7000L, 0x8000_0000_0000_0000L);
+
+        JournalPartitionPruning.CreatedAtRange range = new JournalPartitionPruning(true, COLOMBO)
+            .createdAtRange(id).orElseThrow();
+
+        // 20:00 UTC is 01:30 the next day in Colombo, where created_at was stamped
+        assertThat(range.from()).isEqualTo(LocalDateTime.of(2026, 3, 31, 1, 30));
+        assertThat(range.to()).isEqualTo(LocalDateTime.of(2026, 4, 2, 1, 30));
+    }
+
+    @Test
+    void createdAtRange_shouldBeEmpty_forRandomIds() {
+        assertThat(new JournalPartitionPruning(true, COLOMBO).createdAtRange(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void recentSince_shouldStartAtThePreviousMonth() {
+        assertThat(new JournalPartitionPruning(true, COLOMBO).recentSince())
+            .contains(LocalDateTime.of(2026, 9, 1, 0, 0));
+    }
+
+    @Test
+    void shouldNotBound_whenJournalsIsNotPartitioned() {
+        JournalPartitionPruning pruning = new JournalPartitionPruning(false, COLOMBO);
+
+        assertThat(pruning.createdAtRange(new UuidV7Generator().next())).isEmpty();
+        assertThat(pruning.recentSince()).isEmpty();
+    }
+}
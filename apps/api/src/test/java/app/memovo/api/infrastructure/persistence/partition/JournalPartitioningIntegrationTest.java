@@ -0,0 +1,154 @@
+package app.memovo.api.infrastructure.persistence.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.memovo.api.application.JournalService;
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.domain.port.JournalRepository;
+
+/**
+ * journals.partitions.enabled against a real PostgreSQL: V5 and V8 keep journals
+ * partitioned, entry ids stay unique across months, and the reads bounded by
+ * JournalPartitionPruning still find every journal.
+ *
+ * Runs only when {@code test.postgres.url} points at a PostgreSQL database, in
+ * a schema of its own (journals_partitioned_it) so that the layout does not
+ * depend on how the rest of the database was migrated.
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+@SpringBootTest(properties = {
+    "spring.datasource.url=${test.postgres.url}",
+    "spring.datasource.driverClassName=org.postgresql.Driver",
+    "spring.datasource.username=${test.postgres.user:postgres}",
+    "spring.datasource.password=${test.postgres.password:}",
+    "spring.datasource.hikari.schema=" + JournalPartitioningIntegrationTest.SCHEMA,
+    "spring.flyway.schemas=" + JournalPartitioningIntegrationTest.SCHEMA,
+    "spring.flyway.default-schema=" + JournalPartitioningIntegrationTest.SCHEMA,
+    "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+    "journals.partitions.enabled=true"
+})
+class JournalPartitioningIntegrationTest {
+
+    static final String SCHEMA = "journals_partitioned_it";
+    private static final String USER = "partitioned_user";
+    private static final LocalDateTime LAST_YEAR = LocalDateTime.now().minusYears(1).withNano(0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into users (id, first_name, last_name, email, created_at, updated_at) "
+            + "values (?, 'Partitioned', 'User', 'partitioned@example.com', ?, ?)",
+            USER, Timestamp.valueOf(LAST_YEAR), Timestamp.valueOf(LAST_YEAR));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id = ?", USER);
+    }
+
+    @Test
+    void entryIds_shouldStayUniqueAcrossMonths() {
+        assertThat(jdbcTemplate.queryForObject(
+            "select exists (select 1 from pg_partitioned_table where partrelid = 'journals'::regclass)",
+            Boolean.class)).isTrue();
+        UUID id = UUID.randomUUID();
+        insert(id, "First", LAST_YEAR);
+
+        assertThatThrownBy(() -> insert(id, "Same id, another month", LAST_YEAR.plusMonths(2)))
+            .isInstanceOf(DuplicateKeyException.class);
+
+        // Deleting the user cascades to journals, and the ids leave the registry with them
+        jdbcTemplate.update("delete from users where id = ?", USER);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from journal_entry_ids where entry_id = ?",
+            Integer.class, id)).isZero();
+    }
+
+    @Test
+    void findById_shouldFindJournals_whetherOrNotTheirIdCarriesTheirTime() {
+        Journal created = journalService.createJournal(new Journal(null, USER, "Fresh", "Now", null));
+        UUID random = UUID.randomUUID();
+        insert(random, "Random id", LAST_YEAR);
+        // A time-ordered id whose created_at is far from the time it carries
+        UUID skewed = new UUID((System.currentTimeMillis() << 16) | 0x7000L, 0x8000_0000_0000_0001L);
+        insert(skewed, "Skewed", LAST_YEAR);
+
+        assertThat(journalRepository.findById(created.getId())).map(Journal::getTitle).contains("Fresh");
+        assertThat(journalRepository.findByIdForUser(created.getId(), USER)).map(Journal::getContent).contains("Now");
+        assertThat(journalRepository.findById(random.toString())).map(Journal::getTitle).contains("Random id");
+        assertThat(journalRepository.findByIdForUser(skewed.toString(), USER)).map(Journal::getTitle).contains("Skewed");
+    }
+
+    @Test
+    void firstPages_shouldContinueIntoOlderMonths_whenTheRecentOnesHaveTooFewEntries() {
+        journalService.createJournal(new Journal(null, USER, "Recent", "Recent", null));
+        for (int i = 0; i < 3; i++) {
+            insert(UUID.randomUUID(), "Old " + i, LAST_YEAR.plusDays(i));
+        }
+
+        assertThat(journalRepository.findPageByUserId(USER, null, 3)).extracting(Journal::getTitle)
+            .containsExactly("Recent", "Old 2", "Old 1");
+        assertThat(journalRepository.findSummaryPageByUserId(USER, null, 10, 0)).extracting(JournalSummary::title)
+            .containsExactly("Recent", "Old 2", "Old 1", "Old 0");
+        assertThat(journalRepository.findPageByUserId(USER, null, 1)).extracting(Journal::getTitle)
+            .containsExactly("Recent");
+    }
+
+    @Test
+    void maintenance_shouldReleaseTheIdsOfTheMonthsItDrops() {
+        YearMonth expired = YearMonth.from(LAST_YEAR).minusYears(1);
+        LocalDateTime from = expired.atDay(1).atStartOfDay();
+        jdbcTemplate.execute("create table if not exists journals_" + suffix(expired) + " partition of journals"
+            + " for values from ('" + from + "') to ('" + from.plusMonths(1) + "')");
+        UUID id = UUID.randomUUID();
+        insert(id, "Expired", from.plusDays(3));
+
+        new JournalPartitionMaintenance(jdbcTemplate, new TransactionTemplate(transactionManager), true, 0, 12, true,
+            Clock.system(ZoneOffset.UTC)).maintain();
+
+        assertThat(jdbcTemplate.queryForObject("select to_regclass(?) is null", Boolean.class,
+            "journals_" + suffix(expired))).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from journal_entry_ids where entry_id = ?",
+            Integer.class, id)).isZero();
+        assertThat(journalService.getJournalsByUserId(USER)).isEmpty();
+    }
+
+    private void insert(UUID id, String title, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)",
+            id, USER, title, title, Timestamp.valueOf(createdAt));
+    }
+
+    private static String suffix(YearMonth month) {
+        return String.format("%d_%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,71 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int USERS = 20_000;
+
+    @Test
+    void nodeFor_shouldNotDependOnNodeOrder() {
+        ConsistentHashRing<String> ring = ring(List.of("a", "b", "c"));
+        ConsistentHashRing<String> reordered = ring(List.of("c", "a", "b"));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(reordered.nodeFor(userId(i))).isEqualTo(ring.nodeFor(userId(i)));
+        }
+    }
+
+    @Test
+    void nodeFor_shouldSpreadUsersEvenly() {
+        ConsistentHashRing<String> ring = ring(List.of("a", "b", "c", "d"));
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < USERS; i++) {
+            counts.merge(ring.nodeFor(userId(i)), 1, Integer::sum);
+        }
+
+        // An even split is 25% each
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(USERS / 5, USERS * 3 / 10));
+    }
+
+    @Test
+    void addingNode_shouldOnlyMoveUsersOntoTheNewNode() {
+        ConsistentHashRing<String> before = ring(List.of("a", "b", "c", "d"));
+        ConsistentHashRing<String> after = ring(List.of("a", "b", "c", "d", "e"));
+
+        int moved = 0;
+        for (int i = 0; i < USERS; i++) {
+            String from = before.nodeFor(userId(i));
+            String to = after.nodeFor(userId(i));
+            if (!from.equals(to)) {
+                assertThat(to).isEqualTo("e");
+                moved++;
+            }
+        }
+        // Ideally 1/5 of the users move
+        assertThat(moved).isBetween(USERS * 3 / 20, USERS / 4);
+    }
+
+    @Test
+    void constructor_shouldRejectEmptyRing() {
+        assertThatThrownBy(() -> ring(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConsistentHashRing<String> ring(List<String> nodes) {
+        return new ConsistentHashRing<>(nodes, Function.identity(), 128);
+    }
+
+    private static String userId(int i) {
+        return "user_" + i;
+    }
+}
@@ -0,0 +1,71 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import app.memovo.api.domain.model.Journal;
+
+class JournalShardRebalancerTest {
+
+    private static final int USERS = 60;
+    private static final int JOURNALS_PER_USER = 3;
+
+    @Test
+    void rebalance_shouldMoveJournalsOntoAddedShard() {
+        List<JournalShard> original = TestShards.create("r1", "r2");
+        ShardedJournalRepository before = TestShards.repository(original);
+        List<Journal> journals = new ArrayList<>();
+        for (int user = 0; user < USERS; user++) {
+            for (int i = 0; i < JOURNALS_PER_USER; i++) {
+                journals.add(new Journal(UUID.randomUUID().toString(), "user_" + user, "Entry " + i, "Content",
+                    LocalDateTime.of(2025, 1, 1, 0, 0).plusHours(i)));
+            }
+        }
+        before.insertAll(journals);
+
+        List<JournalShard> grown = new ArrayList<>(original);
+        grown.add(TestShards.create("r3"));
+        ShardedJournalRepository after = TestShards.repository(grown);
+
+        JournalShardRebalancer.Result result = new JournalShardRebalancer(after, 2).rebalance();
+
+        assertThat(result.usersMoved()).isPositive();
+        assertThat(result.journalsMoved()).isEqualTo(result.usersMoved() * JOURNALS_PER_USER);
+        assertThat(TestShards.rows(grown.get(2))).isEqualTo((int) result.journalsMoved());
+        assertThat(grown.stream().mapToInt(TestShards::rows).sum()).isEqualTo(USERS * JOURNALS_PER_USER);
+        for (int user = 0; user < USERS; user++) {
+            assertThat(after.findByUserId("user_" + user)).hasSize(JOURNALS_PER_USER);
+        }
+
+        // Nothing is left to move on a second run
+        assertThat(new JournalShardRebalancer(after, 2).rebalance().usersMoved()).isZero();
+    }
+
+    @Test
+    void rebalance_shouldReplaceCopiesLeftByInterruptedRun() {
+        List<JournalShard> shards = TestShards.create("i1", "i2");
+        ShardedJournalRepository repository = TestShards.repository(shards);
+        String userId = "user_interrupted";
+        JournalShard home = repository.shardFor(userId);
+        JournalShard other = shards.get(0) == home ? shards.get(1) : shards.get(0);
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        // The copy reached the target, but the source still has the row
+        for (JournalShard shard : shards) {
+            shard.jdbc().update("insert into journals (entry_id, user_id, title, content, created_at) values (?, ?, ?, ?, ?)",
+                id, userId, "Title", "Content", createdAt);
+        }
+
+        JournalShardRebalancer.Result result = new JournalShardRebalancer(repository, 10).rebalance();
+
+        assertThat(result.journalsMoved()).isEqualTo(1);
+        assertThat(TestShards.rows(other)).isZero();
+        assertThat(TestShards.rows(home)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,87 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.memovo.api.application.JournalService;
+import app.memovo.api.application.UserService;
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.User;
+import app.memovo.api.domain.port.JournalRepository;
+import app.memovo.api.exception.UserNotFoundException;
+
+/**
+ * Boots the application with journals sharded over two H2 databases while
+ * users stay in the main one.
+ */
+@SpringBootTest(properties = {
+    "journals.sharding.enabled=true",
+    "journals.sharding.shards[0].name=it-a",
+    "journals.sharding.shards[0].jdbc-url=jdbc:h2:mem:journal_shard_it_a;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+    "journals.sharding.shards[0].username=sa",
+    "journals.sharding.shards[0].password=password",
+    "journals.sharding.shards[1].name=it-b",
+    "journals.sharding.shards[1].jdbc-url=jdbc:h2:mem:journal_shard_it_b;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+    "journals.sharding.shards[1].username=sa",
+    "journals.sharding.shards[1].password=password"
+})
+class JournalShardingIntegrationTest {
+
+    private static final String USER_ID = "sharded_user";
+
+    @Autowired
+    private JournalRepository journalRepository;
+
+    @Autowired
+    private JournalService journalService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where id = ?", USER_ID);
+        journalRepository.deleteChunkByUserId(USER_ID, 100);
+    }
+
+    @Test
+    void journals_shouldBeStoredOnTheOwnersShard() {
+        assertThat(journalRepository).isInstanceOf(ShardedJournalRepository.class);
+        ShardedJournalRepository sharded = (ShardedJournalRepository) journalRepository;
+        userService.createUser(new User(USER_ID, "Shard", "User", "shard@example.com", null, null));
+
+        Journal created = journalService.createJournal(new Journal(null, USER_ID, "Title", "Content", null));
+        journalService.createJournals(List.of(new Journal(null, USER_ID, "Second", "Content", null)));
+
+        assertThat(journalService.getJournalsByUserId(USER_ID)).hasSize(2);
+        assertThat(journalService.getJournalById(created.getId(), USER_ID).getTitle()).isEqualTo("Title");
+        assertThat(TestShards.rows(sharded.shardFor(USER_ID))).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from journals", Integer.class)).isZero();
+        assertThat(journalService.canWriteJournalsAsJson()).isFalse();
+
+        userService.deleteUser(USER_ID);
+
+        assertThat(sharded.countByUserId(USER_ID)).isZero();
+    }
+
+    @Test
+    void createJournal_shouldRejectUnknownUser_withoutWritingToAnyShard() {
+        ShardedJournalRepository sharded = (ShardedJournalRepository) journalRepository;
+
+        assertThatThrownBy(() -> journalService.createJournal(new Journal(null, USER_ID, "Title", "Content", null)))
+            .isInstanceOf(UserNotFoundException.class);
+
+        assertThat(sharded.countByUserId(USER_ID)).isZero();
+    }
+}
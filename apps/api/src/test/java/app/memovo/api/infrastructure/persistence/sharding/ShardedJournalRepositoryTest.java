@@ -0,0 +1,200 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import app.memovo.api.domain.model.Journal;
+import app.memovo.api.domain.model.JournalCursor;
+import app.memovo.api.domain.model.JournalDayCount;
+import app.memovo.api.domain.model.JournalSummary;
+import app.memovo.api.exception.UserNotFoundException;
+
+/**
+ * Runs the sharded adapter against three H2 databases.
+ */
+class ShardedJournalRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private List<JournalShard> shards;
+    private ShardedJournalRepository repository;
+    private String alice;
+    private String bob;
+
+    @BeforeEach
+    void setUp() {
+        shards = TestShards.create("a", "b", "c");
+        repository = TestShards.repository(shards);
+        // Two users that live on different shards
+        alice = "user_alice";
+        bob = "user_bob";
+        for (int i = 0; repository.shardFor(bob) == repository.shardFor(alice); i++) {
+            bob = "user_bob_" + i;
+        }
+    }
+
+    @Test
+    void insertAll_shouldStoreEachJournalOnItsOwnersShardOnly() {
+        repository.insertAll(List.of(journal(alice, 0), journal(bob, 1), journal(alice, 2)));
+
+        assertThat(TestShards.rows(repository.shardFor(alice))).isEqualTo(2);
+        assertThat(TestShards.rows(repository.shardFor(bob))).isEqualTo(1);
+        assertThat(shards.stream().mapToInt(TestShards::rows).sum()).isEqualTo(3);
+    }
+
+    @Test
+    void insert_shouldStoreTheJournalOnItsOwnersShardOnly() {
+        Journal journal = journal(bob, 0);
+
+        assertThat(repository.insert(journal).getId()).isEqualTo(journal.getId());
+
+        assertThat(TestShards.rows(repository.shardFor(bob))).isEqualTo(1);
+        assertThat(shards.stream().mapToInt(TestShards::rows).sum()).isEqualTo(1);
+    }
+
+    @Test
+    void inserts_shouldRejectJournalsOfUnknownUsers() {
+        String ghost = "ghost";
+
+        assertThatThrownBy(() -> repository.insert(journal(ghost, 0))).isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> repository.insertAll(List.of(journal(alice, 0), journal(ghost, 1))))
+            .isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> repository.save(journal(ghost, 2))).isInstanceOf(UserNotFoundException.class);
+
+        assertThat(shards.stream().mapToInt(TestShards::rows).sum()).isZero();
+    }
+
+    @Test
+    void perUserQueries_shouldReadFromTheOwnersShard() {
+        List<Journal> journals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            journals.add(journal(alice, i));
+        }
+        journals.add(journal(bob, 0));
+        repository.insertAll(journals);
+
+        assertThat(repository.findByUserId(alice)).extracting(Journal::getTitle)
+            .containsExactlyInAnyOrder("Entry 4", "Entry 3", "Entry 2", "Entry 1", "Entry 0");
+        assertThat(repository.countByUserId(alice)).isEqualTo(5);
+        assertThat(repository.findByUserIdAndCreatedAtBetween(alice, BASE.plusDays(1), BASE.plusDays(3)))
+            .extracting(Journal::getTitle).containsExactly("Entry 2", "Entry 1");
+        assertThat(repository.countByUserIdPerDay(alice, BASE, BASE.plusDays(2)))
+            .containsExactly(new JournalDayCount(LocalDate.of(2025, 3, 1), 1), new JournalDayCount(LocalDate.of(2025, 3, 2), 1));
+
+        List<Journal> firstPage = repository.findPageByUserId(alice, null, 2);
+        Journal last = firstPage.get(1);
+        List<Journal> secondPage = repository.findPageByUserId(alice, new JournalCursor(last.getCreatedAt(), last.getId()), 2);
+        assertThat(secondPage).extracting(Journal::getTitle).containsExactly("Entry 2", "Entry 1");
+
+        List<JournalSummary> summaries = repository.findSummaryPageByUserId(alice, null, 1, 3);
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.title()).isEqualTo("Entry 4");
+            assertThat(summary.snippet()).isEqualTo("Con");
+        });
+
+        List<String> exported = new ArrayList<>();
+        assertThat(repository.forEachByUserId(alice, journal -> exported.add(journal.getTitle()))).isEqualTo(5);
+        assertThat(exported).first().isEqualTo("Entry 4");
+    }
+
+    @Test
+    void idLookups_shouldSearchAllShards() {
+        Journal bobs = journal(bob, 0);
+        repository.insertAll(List.of(journal(alice, 0), bobs));
+
+        assertThat(repository.findById(bobs.getId())).map(Journal::getUserId).contains(bob);
+        assertThat(repository.existsById(bobs.getId())).isTrue();
+        assertThat(repository.existsById(UUID.randomUUID().toString())).isFalse();
+        assertThat(repository.findById("not-a-uuid")).isEmpty();
+
+        // A foreign journal reveals its owner but not its text
+        Optional<Journal> foreign = repository.findByIdForUser(bobs.getId(), alice);
+        assertThat(foreign).hasValueSatisfying(journal -> {
+            assertThat(journal.getUserId()).isEqualTo(bob);
+            assertThat(journal.getTitle()).isNull();
+            assertThat(journal.getContent()).isNull();
+        });
+        assertThat(repository.findAllByIds(List.of(bobs.getId()), alice)).isEmpty();
+        assertThat(repository.findAllByIds(List.of(bobs.getId()), bob)).hasSize(1);
+
+        repository.deleteById(bobs.getId());
+        assertThat(repository.existsById(bobs.getId())).isFalse();
+    }
+
+    @Test
+    void patch_shouldNeitherMoveNorTouchJournal_ofAnotherOwner() {
+        Journal journal = journal(alice, 0);
+        repository.insertAll(List.of(journal));
+
+        assertThat(repository.patch(journal.getId(), bob, new Journal(null, bob, "Mine now", null, null))).isEmpty();
+        Optional<Journal> patched = repository.patch(journal.getId(), alice, new Journal(null, bob, "Renamed", null, null));
+
+        assertThat(patched).hasValueSatisfying(renamed -> {
+            assertThat(renamed.getUserId()).isEqualTo(alice);
+            assertThat(renamed.getTitle()).isEqualTo("Renamed");
+            assertThat(renamed.getContent()).isEqualTo("Content 0");
+        });
+        assertThat(repository.findByUserId(bob)).isEmpty();
+    }
+
+    @Test
+    void patch_shouldUpdateInPlaceOnSameShard() {
+        Journal journal = journal(alice, 0);
+        repository.insertAll(List.of(journal));
+
+        assertThat(repository.patch(journal.getId(), alice, new Journal(null, null, null, "Edited", null)))
+            .map(Journal::getContent).contains("Edited");
+        assertThat(repository.patch(UUID.randomUUID().toString(), alice, new Journal(null, null, "x", null, null)))
+            .isEmpty();
+    }
+
+    @Test
+    void save_shouldUpdateExistingAndMoveOnOwnerChange() {
+        Journal journal = journal(alice, 0);
+        repository.save(journal);
+        journal.setTitle("Renamed");
+        repository.save(journal);
+        assertThat(repository.findByUserId(alice)).extracting(Journal::getTitle).containsExactly("Renamed");
+
+        journal.setUserId(bob);
+        repository.save(journal);
+
+        assertThat(repository.findByUserId(alice)).isEmpty();
+        assertThat(repository.findByUserId(bob)).extracting(Journal::getTitle).containsExactly("Renamed");
+        assertThat(shards.stream().mapToInt(TestShards::rows).sum()).isEqualTo(1);
+    }
+
+    @Test
+    void deletes_shouldOnlyTouchTheUsersJournals() {
+        List<Journal> journals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            journals.add(journal(alice, i));
+        }
+        Journal bobs = journal(bob, 0);
+        journals.add(bobs);
+        repository.insertAll(journals);
+
+        assertThat(repository.deleteByIdAndUserId(bobs.getId(), alice)).isZero();
+        assertThat(repository.deleteAllByIdsAndUserId(
+            List.of(journals.get(0).getId(), journals.get(1).getId(), journals.get(2).getId(), bobs.getId()), alice))
+            .isEqualTo(3);
+        assertThat(repository.deleteAllByUserIdAndCreatedAtBetween(alice, BASE, BASE.plusDays(4))).isEqualTo(1);
+        assertThat(repository.deleteChunkByUserId(alice, 10)).isEqualTo(1);
+        assertThat(repository.deleteChunkByUserId(alice, 10)).isZero();
+        assertThat(repository.countByUserId(bob)).isEqualTo(1);
+    }
+
+    private static Journal journal(String userId, int day) {
+        return new Journal(UUID.randomUUID().toString(), userId, "Entry " + day, "Content " + day, BASE.plusDays(day));
+    }
+}
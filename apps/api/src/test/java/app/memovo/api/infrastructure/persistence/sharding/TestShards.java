@@ -0,0 +1,43 @@
+package app.memovo.api.infrastructure.persistence.sharding;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * In-memory H2 journal shards for tests, migrated like real ones.
+ */
+final class TestShards {
+
+    private TestShards() {}
+
+    static String url(String name) {
+        return "jdbc:h2:mem:journal_shard_" + name
+            + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    }
+
+    static List<JournalShard> create(String... names) {
+        return Stream.of(names).map(TestShards::create).toList();
+    }
+
+    static JournalShard create(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url(name), "sa", "password");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/shard-migration").load().migrate();
+        JournalShard shard = new JournalShard(name, dataSource);
+        shard.jdbc().update("delete from journals");
+        return shard;
+    }
+
+    // Any id starting with "user_" counts as an existing user
+    static ShardedJournalRepository repository(List<JournalShard> shards) {
+        return new ShardedJournalRepository(new ConsistentHashRing<>(shards, JournalShard::name, 128),
+            userId -> userId.startsWith("user_"), 2, Duration.ofSeconds(5));
+    }
+
+    static int rows(JournalShard shard) {
+        return shard.jdbc().queryForObject("select count(*) from journals", Integer.class);
+    }
+}
@@ -0,0 +1,94 @@
+package app.memovo.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.FilterChain;
+
+class CorsPreflightFilterTest {
+
+    private CorsPreflightFilter filter;
+    private FilterChain chain;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CorsPreflightFilter(
+                List.of("https://*.memovo.app", "http://localhost:[*]"),
+                List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"),
+                List.of("*"),
+                Duration.ofHours(1));
+        chain = mock(FilterChain.class);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void doFilter_shouldAnswerPreflight_withoutCallingChain() throws Exception {
+        MockHttpServletRequest request = preflight("https://app.memovo.app", "POST");
+        request.addHeader("Access-Control-Request-Headers", "authorization, content-type");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("https://app.memovo.app");
+        assertThat(response.getHeader("Access-Control-Allow-Methods")).isEqualTo("GET, POST, PUT, DELETE, OPTIONS");
+        assertThat(response.getHeader("Access-Control-Allow-Headers")).isEqualTo("authorization, content-type");
+        assertThat(response.getHeader("Access-Control-Allow-Credentials")).isEqualTo("true");
+        assertThat(response.getHeader("Access-Control-Max-Age")).isEqualTo("3600");
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilter_shouldMatchAnyPort_forPortWildcard() throws Exception {
+        filter.doFilter(preflight("http://localhost:3000", "GET"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("http://localhost:3000");
+    }
+
+    @Test
+    void doFilter_shouldRejectPreflight_fromUnknownOrigin() throws Exception {
+        filter.doFilter(preflight("https://evil.example", "GET"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getHeader("Access-Control-Allow-Origin")).isNull();
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilter_shouldRejectPreflight_forDisallowedMethod() throws Exception {
+        filter.doFilter(preflight("https://app.memovo.app", "TRACE"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_nonPreflightRequests() throws Exception {
+        MockHttpServletRequest plainOptions = new MockHttpServletRequest("OPTIONS", "/api/v1/journals");
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/v1/journals");
+        get.addHeader("Origin", "https://app.memovo.app");
+
+        filter.doFilter(plainOptions, response, chain);
+        filter.doFilter(get, response, chain);
+
+        verify(chain).doFilter(plainOptions, response);
+        verify(chain).doFilter(get, response);
+    }
+
+    private static MockHttpServletRequest preflight(String origin, String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/v1/journals");
+        request.addHeader("Origin", origin);
+        request.addHeader("Access-Control-Request-Method", method);
+        return request;
+    }
+}
@@ -0,0 +1,259 @@
+package app.memovo.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class JwksTokenVerifierTest {
+
+    private static KeyPair signingKeys;
+    private static KeyPair rotatedKeys;
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private JwksKeyStore keyStore;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKeys = generator.generateKeyPair();
+        rotatedKeys = generator.generateKeyPair();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (keyStore != null) {
+            keyStore.close();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void verify_shouldReturnClaims_forValidToken() throws IOException {
+        JwksTokenVerifier verifier = verifierFor(fileJwks(jwks(jwk("kid_1", signingKeys))), List.of());
+
+        Claims claims = verifier.verify(token("kid_1", signingKeys, Duration.ofMinutes(5), null));
+
+        assertThat(claims.getSubject()).isEqualTo("user_123");
+    }
+
+    @Test
+    void verify_shouldReject_expiredToken() throws IOException {
+        JwksTokenVerifier verifier = verifierFor(fileJwks(jwks(jwk("kid_1", signingKeys))), List.of());
+
+        assertThatThrownBy(() -> verifier.verify(token("kid_1", signingKeys, Duration.ofMinutes(-5), null)))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void verify_shouldReject_signedTokenWithoutExpiration() throws IOException {
+        JwksTokenVerifier verifier = verifierFor(fileJwks(jwks(jwk("kid_1", signingKeys))), List.of());
+
+        assertThatThrownBy(() -> verifier.verify(token("kid_1", signingKeys, null, null)))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("expiration");
+    }
+
+    @Test
+    void verify_shouldReject_tokenSignedWithAnotherKey() throws IOException {
+        JwksTokenVerifier verifier = verifierFor(fileJwks(jwks(jwk("kid_1", signingKeys))), List.of());
+
+        assertThatThrownBy(() -> verifier.verify(token("kid_1", rotatedKeys, Duration.ofMinutes(5), null)))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void verify_shouldReject_unauthorizedParty() throws IOException {
+        JwksTokenVerifier verifier = verifierFor(
+                fileJwks(jwks(jwk("kid_1", signingKeys))), List.of("https://memovo.app"));
+
+        assertThat(verifier.verify(token("kid_1", signingKeys, Duration.ofMinutes(5), "https://memovo.app")))
+                .isNotNull();
+        assertThatThrownBy(() -> verifier.verify(token("kid_1", signingKeys, Duration.ofMinutes(5), "https://evil.example")))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("authorized party");
+    }
+
+    @Test
+    void verify_shouldPickUpRotatedKey_withSingleRefresh() throws IOException {
+        AtomicInteger fetches = new AtomicInteger();
+        String[] document = {jwks(jwk("kid_1", signingKeys))};
+        String location = serveJwks(document, fetches);
+
+        JwksTokenVerifier verifier = verifierFor(location, List.of());
+        assertThat(fetches.get()).isEqualTo(1);
+
+        document[0] = jwks(jwk("kid_1", signingKeys), jwk("kid_2", rotatedKeys));
+        String rotatedToken = token("kid_2", rotatedKeys, Duration.ofMinutes(5), null);
+
+        assertThat(verifier.verify(rotatedToken).getSubject()).isEqualTo("user_123");
+        assertThat(verifier.verify(rotatedToken).getSubject()).isEqualTo("user_123");
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_shouldServeConcurrentCallers_fromSharedRefresh_whileKeyRotates() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        String[] document = {jwks(jwk("kid_1", signingKeys))};
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        String location = serveJwks(document, fetches, releaseFetch);
+
+        JwksTokenVerifier verifier = verifierFor(location, List.of());
+        document[0] = jwks(jwk("kid_1", signingKeys), jwk("kid_2", rotatedKeys));
+        String rotatedToken = token("kid_2", rotatedKeys, Duration.ofMinutes(5), null);
+
+        int callers = 8;
+        CountDownLatch started = new CountDownLatch(callers);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Claims>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    started.countDown();
+                    return verifier.verify(rotatedToken);
+                }));
+            }
+
+            // Hold the on-demand fetch until every caller has missed on kid_2
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200);
+            releaseFetch.countDown();
+
+            for (Future<Claims> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getSubject()).isEqualTo("user_123");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // One initial load plus a single on-demand refresh
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_shouldRateLimitRefreshes_forUnknownKid() throws IOException {
+        AtomicInteger fetches = new AtomicInteger();
+        String location = serveJwks(new String[] {jwks(jwk("kid_1", signingKeys))}, fetches);
+
+        JwksTokenVerifier verifier = verifierFor(location, List.of());
+        String unknownKidToken = token("kid_unknown", rotatedKeys, Duration.ofMinutes(5), null);
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> verifier.verify(unknownKidToken))
+                    .isInstanceOf(UnauthorizedException.class);
+        }
+
+        // One initial load plus a single on-demand refresh
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    private JwksTokenVerifier verifierFor(String location, List<String> authorizedParties) {
+        keyStore = new JwksKeyStore(location, Duration.ofHours(1), Duration.ZERO,
+                Duration.ofMinutes(1), Duration.ofSeconds(2), Clock.systemUTC());
+        keyStore.start();
+        return new JwksTokenVerifier(keyStore, authorizedParties, Duration.ZERO, Clock.systemUTC());
+    }
+
+    private String fileJwks(String document) throws IOException {
+        Path file = tempDir.resolve("jwks.json");
+        Files.writeString(file, document);
+        return file.toUri().toString();
+    }
+
+    private String serveJwks(String[] document, AtomicInteger fetches) throws IOException {
+        return serveJwks(document, fetches, new CountDownLatch(0));
+    }
+
+    // Every fetch after the initial load waits for releaseFetch
+    private String serveJwks(String[] document, AtomicInteger fetches, CountDownLatch releaseFetch) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            if (fetches.incrementAndGet() > 1) {
+                try {
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = document[0].getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json";
+    }
+
+    private static String token(String kid, KeyPair keys, Duration expiresIn, String azp) {
+        long now = System.currentTimeMillis();
+        var builder = Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("user_123")
+                .issuedAt(new Date(now))
+                .notBefore(new Date(now - 1_000));
+        if (expiresIn != null) {
+            builder.expiration(new Date(now + expiresIn.toMillis()));
+        }
+        if (azp != null) {
+            builder.claim("azp", azp);
+        }
+        return builder.signWith(keys.getPrivate(), Jwts.SIG.RS256).compact();
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String jwk(String kid, KeyPair keys) {
+        RSAPublicKey publicKey = (RSAPublicKey) keys.getPublic();
+        return String.format(
+                "{\"use\":\"sig\",\"kty\":\"RSA\",\"kid\":\"%s\",\"alg\":\"RS256\",\"n\":\"%s\",\"e\":\"%s\"}",
+                kid, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = java.util.Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,90 @@
+package app.memovo.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 3 reads burst refilled at 1/s, 1 write burst refilled at 1/s
+        rateLimiter = new RateLimiter(true, 3, 1, 1, 1, Duration.ofMinutes(1), nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.close();
+    }
+
+    @Test
+    void tryAcquire_shouldAllowBurst_thenReject() {
+        assertThat(rateLimiter.tryAcquire("user_1", false)).isZero();
+        assertThat(rateLimiter.tryAcquire("user_1", false)).isZero();
+        assertThat(rateLimiter.tryAcquire("user_1", false)).isZero();
+
+        long waitNanos = rateLimiter.tryAcquire("user_1", false);
+
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void tryAcquire_shouldRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("user_1", false);
+        }
+        assertThat(rateLimiter.tryAcquire("user_1", false)).isPositive();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(rateLimiter.tryAcquire("user_1", false)).isZero();
+    }
+
+    @Test
+    void tryAcquire_shouldKeepSeparateBuckets_perPrincipalAndLimit() {
+        assertThat(rateLimiter.tryAcquire("user_1", true)).isZero();
+        assertThat(rateLimiter.tryAcquire("user_1", true)).isPositive();
+
+        assertThat(rateLimiter.tryAcquire("user_1", false)).isZero();
+        assertThat(rateLimiter.tryAcquire("user_2", true)).isZero();
+    }
+
+    @Test
+    void tryAcquire_shouldAlwaysAllow_whenDisabled() {
+        RateLimiter disabled = new RateLimiter(false, 1, 1, 1, 1, Duration.ofMinutes(1), nanos::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.tryAcquire("user_1", true)).isZero();
+        }
+        assertThat(disabled.bucketCount()).isZero();
+    }
+
+    @Test
+    void evictIdle_shouldDropBuckets_idleLongerThanTimeout() {
+        rateLimiter.tryAcquire("idle_user", false);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(90));
+        rateLimiter.tryAcquire("active_user", false);
+
+        rateLimiter.evictIdle();
+
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    void isWrite_shouldClassifyMethods() {
+        assertThat(RateLimiter.isWrite("GET")).isFalse();
+        assertThat(RateLimiter.isWrite("HEAD")).isFalse();
+        assertThat(RateLimiter.isWrite("OPTIONS")).isFalse();
+        assertThat(RateLimiter.isWrite("POST")).isTrue();
+        assertThat(RateLimiter.isWrite("DELETE")).isTrue();
+    }
+}
@@ -0,0 +1,160 @@
+package app.memovo.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW);
+    }
+
+    @Test
+    void get_shouldReturnCachedClaims_afterPut() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        Claims claims = claimsExpiringAt(NOW + 60_000);
+
+        cache.put("token_1", claims);
+
+        assertThat(cache.get("token_1")).isSameAs(claims);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    void get_shouldCountMiss_forUnknownToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldEvictEntry_onceTokenExpires() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        cache.put("token_1", claimsExpiringAt(NOW + 1_000));
+
+        when(clock.millis()).thenReturn(NOW + 1_000);
+
+        assertThat(cache.get("token_1")).isNull();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldSkipTokens_withoutOrPastExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+        cache.put("no_exp", claimsExpiringAt(null));
+        cache.put("expired", claimsExpiringAt(NOW - 1));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldStayWithinMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+
+        cache.put("token_1", claimsExpiringAt(NOW + 60_000));
+        cache.put("token_2", claimsExpiringAt(NOW + 60_000));
+        cache.put("token_3", claimsExpiringAt(NOW + 60_000));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.get("token_3")).isNotNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+        cache.put("token_1", claimsExpiringAt(NOW + 60_000));
+        cache.put("token_2", claimsExpiringAt(NOW + 60_000));
+        cache.get("token_1");
+
+        cache.put("token_3", claimsExpiringAt(NOW + 60_000));
+
+        assertThat(cache.get("token_1")).isNotNull();
+        assertThat(cache.get("token_2")).isNull();
+        assertThat(cache.get("token_3")).isNotNull();
+    }
+
+    @Test
+    void put_shouldDropExpiredEntriesFirst_whenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+        cache.put("token_1", claimsExpiringAt(NOW + 1_000));
+        cache.put("token_2", claimsExpiringAt(NOW + 60_000));
+        cache.get("token_1");
+
+        when(clock.millis()).thenReturn(NOW + 1_000);
+        cache.put("token_3", claimsExpiringAt(NOW + 60_000));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token_2")).isNotNull();
+        assertThat(cache.get("token_3")).isNotNull();
+    }
+
+    @Test
+    void put_shouldTrimBackBelowMaxSize_whenLargeCacheOverflows() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(64, clock);
+        for (int i = 0; i < 64; i++) {
+            cache.put("token_" + i, claimsExpiringAt(NOW + 60_000));
+        }
+
+        cache.put("token_64", claimsExpiringAt(NOW + 60_000));
+
+        // A sixteenth of the room is freed at once, so the next puts do not trim again
+        assertThat(cache.size()).isEqualTo(60);
+        assertThat(cache.evictionCount()).isEqualTo(5);
+        assertThat(cache.get("token_64")).isNotNull();
+    }
+
+    @Test
+    void bindTo_shouldPublishHitAndMissCounts() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.put("token_1", claimsExpiringAt(NOW + 60_000));
+
+        cache.get("token_1");
+        cache.get("token_1");
+        cache.get("unknown");
+
+        assertThat(registry.get("cache.gets").tags("cache", "clerk-tokens", "result", "hit")
+            .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tags("cache", "clerk-tokens", "result", "miss")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "clerk-tokens").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroMaxSize_shouldDisableCaching() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, clock);
+
+        cache.put("token_1", claimsExpiringAt(NOW + 60_000));
+
+        assertThat(cache.get("token_1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Claims claimsExpiringAt(Long epochMillis) {
+        Claims claims = mock(Claims.class);
+        when(claims.getExpiration()).thenReturn(epochMillis == null ? null : new Date(epochMillis));
+        return claims;
+    }
+}